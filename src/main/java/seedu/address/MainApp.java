@@ -2,32 +2,42 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.MetricsReporter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.InternshipLogic;
 import seedu.address.logic.InternshipLogicManager;
+import seedu.address.model.ConcurrentInternshipModelManager;
 import seedu.address.model.InternshipData;
 import seedu.address.model.InternshipModel;
-import seedu.address.model.InternshipModelManager;
 import seedu.address.model.InternshipUserPrefs;
 import seedu.address.model.ReadOnlyInternshipData;
-import seedu.address.model.ReadOnlyInternshipUserPrefs;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.util.Interner;
 import seedu.address.model.util.InternshipSampleDataUtil;
+import seedu.address.storage.InternshipDataSaver;
 import seedu.address.storage.InternshipDataStorage;
 import seedu.address.storage.InternshipStorage;
 import seedu.address.storage.InternshipStorageManager;
 import seedu.address.storage.InternshipUserPrefsStorage;
 import seedu.address.storage.JsonInternshipDataStorage;
 import seedu.address.storage.JsonInternshipUserPrefsStorage;
+import seedu.address.storage.TextBlobFile;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -43,8 +53,11 @@ public class MainApp extends Application {
     protected Ui ui;
     protected InternshipLogic logic;
     protected InternshipStorage storage;
+    protected InternshipDataSaver saver;
     protected InternshipModel model;
     protected Config config;
+    protected MetricsReporter metricsReporter;
+    protected TextBlobFile remarkFile;
 
     @Override
     public void init() throws Exception {
@@ -54,28 +67,61 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        metricsReporter = new MetricsReporter(CommandMetrics.getInstance(), config.getMetricsFilePath(),
+                config.getMetricsIntervalSeconds());
+        metricsReporter.start();
 
         InternshipUserPrefsStorage userPrefsStorage = new JsonInternshipUserPrefsStorage(config.getUserPrefsFilePath());
         InternshipUserPrefs userPrefs = initPrefs(userPrefsStorage);
-        InternshipDataStorage internshipDataStorage =
-                new JsonInternshipDataStorage(userPrefs.getInternshipDataFilePath());
+        InternshipDataStorage internshipDataStorage = initInternshipDataStorage(userPrefs.getInternshipDataFilePath());
         storage = new InternshipStorageManager(internshipDataStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        // The data file is read in the background while the main window is being shown, and loaded into the
+        // model when it is ready, so that the time taken to show the window does not depend on the size of the data.
+        CompletableFuture<ReadOnlyInternshipData> initialData = CompletableFuture.supplyAsync(
+                () -> readInternshipData(storage), runnable -> {
+                    Thread thread = new Thread(runnable, "data-loader");
+                    thread.setDaemon(true);
+                    thread.start();
+                });
 
-        logic = new InternshipLogicManager(model, storage);
+        model = new ConcurrentInternshipModelManager(new InternshipData(), userPrefs);
 
-        ui = new UiManager(logic);
+        // The data is saved from the model's snapshots on a separate thread, so commands do not wait for the file.
+        saver = new InternshipDataSaver(storage);
+        logic = new InternshipLogicManager(model, storage, saver);
+
+        ui = new UiManager(logic, initialData);
+    }
+
+    /**
+     * Returns a storage for the internship data file at {@code filePath}, which keeps long remarks in a temporary file
+     * instead of in memory if {@code config} enables it and the temporary file can be created.
+     */
+    private InternshipDataStorage initInternshipDataStorage(Path filePath) {
+        if (config.getLazyRemarkLength() <= 0) {
+            return new JsonInternshipDataStorage(filePath);
+        }
+        try {
+            remarkFile = TextBlobFile.createTemporary(TextBlobFile.DEFAULT_CACHE_SIZE);
+            logger.info("Keeping remarks of at least " + config.getLazyRemarkLength() + " characters in "
+                    + remarkFile.getPath());
+            return new JsonInternshipDataStorage(filePath, remarkFile, config.getLazyRemarkLength());
+        } catch (IOException e) {
+            logger.warning("Failed to create a file for long remarks, so all remarks will be kept in memory: "
+                    + StringUtil.getDetails(e));
+            return new JsonInternshipDataStorage(filePath);
+        }
     }
 
     /**
-     * Returns a {@code InternshipModelManager} with the data from {@code storage}'s internship data and
-     * {@code userPrefs}. <br>
+     * Returns the internship data read from {@code storage}'s internship data file. <br>
      * The data from the sample internship data will be used instead if {@code storage}'s internship data is not found,
      * or an empty internship data will be used instead if errors occur when reading {@code storage}'s internship data.
      */
-    private InternshipModel initModelManager(InternshipStorage storage, ReadOnlyInternshipUserPrefs userPrefs) {
+    private ReadOnlyInternshipData readInternshipData(InternshipStorage storage) {
         logger.info("Using data file : " + storage.getInternshipDataFilePath());
+        long start = System.nanoTime();
 
         Optional<ReadOnlyInternshipData> internshipDataOptional;
         ReadOnlyInternshipData initialData;
@@ -92,7 +138,30 @@ public class MainApp extends Application {
             initialData = new InternshipData();
         }
 
-        return new InternshipModelManager(initialData, userPrefs);
+        logger.info("Read " + initialData.getInternshipList().size() + " internships in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+        logger.info("Sharing repeated field values saves about "
+                + estimateBytesSavedBySharing(initialData.getInternshipList()) / 1024 + " KB of heap in the data read");
+        return initialData;
+    }
+
+    /**
+     * Returns the estimated number of bytes saved by {@code internships} sharing instances of their repeated
+     * field values, compared to each internship having its own copies.
+     */
+    private static long estimateBytesSavedBySharing(List<Internship> internships) {
+        ToLongFunction<Object> stringFieldSize = value -> Interner.estimateStringWrapperSize(value.toString());
+        ToLongFunction<Object> enumFieldSize = value -> Interner.REFERENCE_WRAPPER_SIZE;
+        return estimateBytesSaved(internships, Internship::getCompanyName, stringFieldSize)
+                + estimateBytesSaved(internships, Internship::getRole, stringFieldSize)
+                + estimateBytesSaved(internships, Internship::getContactName, stringFieldSize)
+                + estimateBytesSaved(internships, Internship::getApplicationStatus, enumFieldSize)
+                + estimateBytesSaved(internships, Internship::getLocation, enumFieldSize);
+    }
+
+    private static long estimateBytesSaved(List<Internship> internships, Function<Internship, ?> field,
+            ToLongFunction<Object> sizeEstimator) {
+        return Interner.estimateBytesSaved(internships.stream().map(field).collect(Collectors.toList()), sizeEstimator);
     }
 
     private void initLogging(Config config) {
@@ -184,5 +253,14 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        saver.shutdown();
+        metricsReporter.stop();
+        if (remarkFile != null) {
+            try {
+                remarkFile.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close " + remarkFile.getPath() + " " + StringUtil.getDetails(e));
+            }
+        }
     }
 }
@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path metricsFilePath = Paths.get("metrics.txt");
+    private long metricsIntervalSeconds = 60;
+    private int lazyRemarkLength = 256;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,38 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    /**
+     * Returns the number of seconds between writes of the command metrics file.
+     * The file is only written when the app stops if this is not positive.
+     */
+    public long getMetricsIntervalSeconds() {
+        return metricsIntervalSeconds;
+    }
+
+    public void setMetricsIntervalSeconds(long metricsIntervalSeconds) {
+        this.metricsIntervalSeconds = metricsIntervalSeconds;
+    }
+
+    /**
+     * Returns the length from which remarks are kept in a temporary file instead of in memory, and only loaded when
+     * they are displayed in full or searched. All remarks are kept in memory if this is not positive.
+     */
+    public int getLazyRemarkLength() {
+        return lazyRemarkLength;
+    }
+
+    public void setLazyRemarkLength(int lazyRemarkLength) {
+        this.lazyRemarkLength = lazyRemarkLength;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +82,15 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(metricsFilePath, otherConfig.metricsFilePath)
+                && metricsIntervalSeconds == otherConfig.metricsIntervalSeconds
+                && lazyRemarkLength == otherConfig.lazyRemarkLength;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, metricsFilePath, metricsIntervalSeconds, lazyRemarkLength);
     }
 
     @Override
@@ -60,6 +98,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("metricsFilePath", metricsFilePath)
+                .add("metricsIntervalSeconds", metricsIntervalSeconds)
+                .add("lazyRemarkLength", lazyRemarkLength)
                 .toString();
     }
 
@@ -0,0 +1,168 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records how long each phase of a command takes, in a {@code LatencyHistogram} per command word and phase.
+ * Recording is lock-free and may be done from any thread.
+ * A single instance is shared by the whole app and can be obtained with {@link #getInstance()}.
+ */
+public class CommandMetrics {
+
+    /** The command word that timings are recorded under when the command could not be parsed. */
+    public static final String UNPARSED_COMMAND_WORD = "(unparsed)";
+
+    private static final CommandMetrics INSTANCE = new CommandMetrics();
+
+    private final ConcurrentMap<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+    private final ThreadLocal<Trace> currentTrace = new ThreadLocal<>();
+
+    public static CommandMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records that {@code phase} of the command {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, CommandPhase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        histograms.computeIfAbsent(commandWord, unused -> createHistograms())[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Returns the histogram of {@code phase} of the command {@code commandWord}.
+     * The histogram is empty if nothing has been recorded for it yet.
+     */
+    public LatencyHistogram getHistogram(String commandWord, CommandPhase phase) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        LatencyHistogram[] commandHistograms = histograms.get(commandWord);
+        return commandHistograms == null ? new LatencyHistogram() : commandHistograms[phase.ordinal()];
+    }
+
+    /**
+     * Starts timing a command on the current thread. Phases are timed back to back by calling
+     * {@link Trace#endPhase(CommandPhase)}, and the timings are recorded when the trace is closed.
+     */
+    public Trace startTrace() {
+        Trace trace = new Trace();
+        currentTrace.set(trace);
+        return trace;
+    }
+
+    /**
+     * Adds {@code nanos} to {@code phase} of the command being timed on the current thread, if any.
+     * The time is taken out of the phase that is running when this is called, so that phases do not overlap.
+     */
+    public void recordNested(CommandPhase phase, long nanos) {
+        requireNonNull(phase);
+        Trace trace = currentTrace.get();
+        if (trace != null) {
+            trace.addNested(phase, nanos);
+        }
+    }
+
+    /**
+     * Removes all recorded timings.
+     */
+    public void clear() {
+        histograms.clear();
+    }
+
+    /**
+     * Returns a table of the count, percentiles and maximum of every phase of every command, in milliseconds.
+     * Returns an empty string if nothing has been recorded.
+     */
+    public String getReport() {
+        Map<String, LatencyHistogram[]> sortedHistograms = new TreeMap<>(histograms);
+        if (sortedHistograms.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder report = new StringBuilder(String.format("%-12s %-12s %8s %9s %9s %9s %9s",
+                "command", "phase", "count", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Map.Entry<String, LatencyHistogram[]> entry : sortedHistograms.entrySet()) {
+            for (CommandPhase phase : CommandPhase.values()) {
+                LatencyHistogram histogram = entry.getValue()[phase.ordinal()];
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                report.append(String.format("%n%-12s %-12s %8d %9.3f %9.3f %9.3f %9.3f", entry.getKey(), phase,
+                        histogram.getCount(), toMillis(histogram.getValueAtPercentile(50)),
+                        toMillis(histogram.getValueAtPercentile(90)), toMillis(histogram.getValueAtPercentile(99)),
+                        toMillis(histogram.getMaxNanos())));
+            }
+        }
+        return report.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static LatencyHistogram[] createHistograms() {
+        LatencyHistogram[] commandHistograms = new LatencyHistogram[CommandPhase.values().length];
+        for (int i = 0; i < commandHistograms.length; i++) {
+            commandHistograms[i] = new LatencyHistogram();
+        }
+        return commandHistograms;
+    }
+
+    /**
+     * The timings of a single command, which are recorded once the trace is closed.
+     * A trace belongs to the thread that started it.
+     */
+    public class Trace implements AutoCloseable {
+        private final long[] phaseNanos = new long[CommandPhase.values().length];
+        private final boolean[] isPhaseTimed = new boolean[CommandPhase.values().length];
+        private String commandWord = UNPARSED_COMMAND_WORD;
+        private long phaseStart = System.nanoTime();
+        private long nestedNanosInPhase;
+
+        /**
+         * Sets the command word that the timings are recorded under.
+         */
+        public void setCommandWord(String commandWord) {
+            this.commandWord = requireNonNull(commandWord);
+        }
+
+        /**
+         * Ends {@code phase}, which is taken to have started when the previous phase ended or when the trace was
+         * started.
+         */
+        public void endPhase(CommandPhase phase) {
+            long now = System.nanoTime();
+            phaseNanos[phase.ordinal()] += now - phaseStart - nestedNanosInPhase;
+            isPhaseTimed[phase.ordinal()] = true;
+            phaseStart = now;
+            nestedNanosInPhase = 0;
+        }
+
+        private void addNested(CommandPhase phase, long nanos) {
+            phaseNanos[phase.ordinal()] += nanos;
+            isPhaseTimed[phase.ordinal()] = true;
+            nestedNanosInPhase += nanos;
+        }
+
+        /**
+         * Records the timed phases and stops timing the command.
+         */
+        @Override
+        public void close() {
+            if (currentTrace.get() == this) {
+                currentTrace.remove();
+            }
+            for (CommandPhase phase : CommandPhase.values()) {
+                if (isPhaseTimed[phase.ordinal()]) {
+                    record(commandWord, phase, phaseNanos[phase.ordinal()]);
+                }
+            }
+        }
+    }
+}
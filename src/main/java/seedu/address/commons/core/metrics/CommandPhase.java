@@ -0,0 +1,23 @@
+package seedu.address.commons.core.metrics;
+
+/**
+ * The phases that the time taken by a command is divided into.
+ */
+public enum CommandPhase {
+    PARSE("parse"),
+    EXECUTE("execute"),
+    FILTER_SORT("filter/sort"),
+    PERSIST("persist"),
+    UI_REFRESH("ui refresh");
+
+    private final String displayName;
+
+    CommandPhase(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.commons.core.metrics;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Periodically writes the report of a {@code CommandMetrics} to a file, replacing the previous report.
+ */
+public class MetricsReporter {
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsReporter.class);
+
+    private final CommandMetrics metrics;
+    private final Path filePath;
+    private final long intervalSeconds;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a {@code MetricsReporter} that writes the report of {@code metrics} to {@code filePath} every
+     * {@code intervalSeconds} seconds once started. The report is only written on {@link #stop()} if
+     * {@code intervalSeconds} is not positive.
+     */
+    public MetricsReporter(CommandMetrics metrics, Path filePath, long intervalSeconds) {
+        requireAllNonNull(metrics, filePath);
+        this.metrics = metrics;
+        this.filePath = filePath;
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    /**
+     * Starts writing the report periodically on a background thread.
+     */
+    public void start() {
+        if (intervalSeconds <= 0 || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::writeReport, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        logger.info("Writing command metrics to " + filePath + " every " + intervalSeconds + " seconds");
+    }
+
+    /**
+     * Stops writing the report periodically and writes it one last time.
+     */
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        writeReport();
+    }
+
+    /**
+     * Writes the current report to the file. Nothing is written if no timings have been recorded.
+     */
+    void writeReport() {
+        String report = metrics.getReport();
+        if (report.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileUtil.createIfMissing(filePath);
+            FileUtil.writeToFile(filePath, "Command metrics at " + LocalDateTime.now() + "\n" + report + "\n");
+        } catch (IOException e) {
+            logger.warning("Failed to write command metrics to " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.parser.CliSyntax;
+import seedu.address.logic.parser.InternshipDataParser;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipValueIndex;
+
+/**
+ * Completes partly typed commands.
+ * The word at the end of a command is completed to a command word if it is the first word, to a prefix if it starts
+ * with {@code /}, or to a value in the internship data if it follows a company name, role or contact name prefix.
+ * Values are looked up in the model's {@code InternshipValueIndex}, so completing them does not go through every
+ * internship.
+ */
+public class CommandCompleter {
+
+    /** The maximum number of values suggested at a time. */
+    public static final int MAX_VALUE_COMPLETIONS = 20;
+
+    private static final Map<Prefix, InternshipValueIndex.Field> VALUE_PREFIXES = Map.of(
+            PREFIX_COMPANY, InternshipValueIndex.Field.COMPANY_NAME,
+            PREFIX_ROLE, InternshipValueIndex.Field.ROLE,
+            PREFIX_CONTACT_NAME, InternshipValueIndex.Field.CONTACT_NAME);
+
+    private final InternshipModel model;
+
+    public CommandCompleter(InternshipModel model) {
+        this.model = requireNonNull(model);
+    }
+
+    /**
+     * Returns the possible completions of {@code commandText}, each of which is the whole command text with its end
+     * completed, in alphabetical order. Returns an empty list if the end of {@code commandText} cannot be completed.
+     */
+    public List<String> complete(String commandText) {
+        requireNonNull(commandText);
+        if (commandText.isBlank()) {
+            return List.of();
+        }
+
+        int wordStart = commandText.lastIndexOf(' ') + 1;
+        String head = commandText.substring(0, wordStart);
+        String word = commandText.substring(wordStart);
+
+        if (head.isBlank()) {
+            return completeWith(head, word, InternshipDataParser.COMMAND_WORDS, " ");
+        }
+        if (word.startsWith("/")) {
+            List<String> prefixes = new ArrayList<>();
+            CliSyntax.ALL_PREFIXES.forEach(prefix -> prefixes.add(prefix.getPrefix()));
+            return completeWith(head, word, prefixes, " ");
+        }
+        return completeValue(commandText);
+    }
+
+    /**
+     * Completes the value after the last prefix in {@code commandText} if it is a value prefix.
+     * The value may contain spaces, e.g. a company name of several words.
+     */
+    private List<String> completeValue(String commandText) {
+        Prefix lastPrefix = null;
+        int valueStart = -1;
+        for (Prefix prefix : CliSyntax.ALL_PREFIXES) {
+            String marker = " " + prefix.getPrefix() + " ";
+            int index = commandText.lastIndexOf(marker);
+            if (index != -1 && index + marker.length() > valueStart) {
+                lastPrefix = prefix;
+                valueStart = index + marker.length();
+            }
+        }
+        if (lastPrefix == null || !VALUE_PREFIXES.containsKey(lastPrefix)) {
+            return List.of();
+        }
+
+        String head = commandText.substring(0, valueStart);
+        String value = commandText.substring(valueStart);
+        if (value.isBlank()) {
+            return List.of();
+        }
+        List<String> values = model.getValueSuggestions(VALUE_PREFIXES.get(lastPrefix), value,
+                MAX_VALUE_COMPLETIONS);
+        return completeWith(head, value, values, "");
+    }
+
+    /**
+     * Returns {@code head} followed by each of the sorted {@code candidates} that {@code word} is a prefix of,
+     * then {@code suffix}. A candidate that {@code word} already equals is left out.
+     */
+    private static List<String> completeWith(String head, String word, List<String> candidates, String suffix) {
+        List<String> completions = new ArrayList<>();
+        for (String candidate : candidates) {
+            if (candidate.regionMatches(true, 0, word, 0, word.length()) && !candidate.equals(word)) {
+                completions.add(head + candidate + suffix);
+            }
+        }
+        return completions;
+    }
+}
@@ -1,12 +1,16 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BooleanSupplier;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DeadlineIndex;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.internship.Internship;
 
@@ -34,11 +38,25 @@ public interface InternshipLogic {
     ObservableList<Internship> getFilteredInternshipList();
 
     /**
-     * Returns the model's selected internship.
+     * Returns an unmodifiable view of the internships on the current page of the filtered list.
+     *
+     * @see seedu.address.model.InternshipModel#getInternshipPage()
+     */
+    ObservableList<Internship> getInternshipPage();
+
+    /**
+     * Returns the zero-based index of the current page of the filtered list.
+     *
+     * @see seedu.address.model.InternshipModel#getPageIndex()
+     */
+    int getPageIndex();
+
+    /**
+     * Returns the model's selected internship, or null if no internship is selected.
      *
      * @see seedu.address.model.InternshipModel#getSelectedInternship()
      */
-    ObservableList<Internship> getSelectedInternship();
+    Internship getSelectedInternship();
 
     /**
      * Sets the selected internship in the model.
@@ -47,6 +65,48 @@ public interface InternshipLogic {
      */
     void setSelectedInternship(Internship internship);
 
+    /**
+     * Replaces the internship data in the model with {@code internshipData}, which cannot be undone.
+     *
+     * @see seedu.address.model.InternshipModel#loadInternshipData(ReadOnlyInternshipData)
+     */
+    void loadInternshipData(ReadOnlyInternshipData internshipData);
+
+    /**
+     * Records that the internship data could not be loaded. Commands are refused from then on, so that the model,
+     * which does not hold the data, is never saved over the data file.
+     */
+    void setDataLoadFailed();
+
+    /**
+     * Filters the internship list by {@code findArgs}, the arguments of a find command that is still being typed.
+     * Nothing changes if {@code findArgs} cannot be parsed yet. The filter from before the first preview is
+     * restored by {@link #endFindPreview()}, or before the next command is executed.
+     *
+     * @param isCancelled returns true once the preview is no longer needed, e.g. because more has been typed.
+     */
+    void previewFind(String findArgs, BooleanSupplier isCancelled);
+
+    /**
+     * Returns the possible completions of the partly typed {@code commandText}, each of which is the whole command
+     * text with its end completed. This may be called from any thread.
+     *
+     * @see CommandCompleter#complete(String)
+     */
+    List<String> getCompletions(String commandText);
+
+    /**
+     * Restores the filter of the internship list from before {@link #previewFind} was first called, if it was.
+     */
+    void endFindPreview();
+
+    /**
+     * Returns the tasks due from {@code start} to {@code end}, both inclusive, in order of their deadlines.
+     *
+     * @see seedu.address.model.InternshipModel#getTasksDue(LocalDate, LocalDate)
+     */
+    List<DeadlineIndex.DueTask> getTasksDue(LocalDate start, LocalDate end);
+
     /**
      * Returns the user prefs' internship data file path.
      */
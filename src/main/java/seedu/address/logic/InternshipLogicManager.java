@@ -3,19 +3,29 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.CommandPhase;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.InternshipCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.InternshipDataParser;
+import seedu.address.logic.parser.InternshipFindCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DeadlineIndex;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipContainsKeywordsPredicate;
+import seedu.address.storage.InternshipDataSaver;
 import seedu.address.storage.InternshipStorage;
 
 /**
@@ -27,39 +37,83 @@ public class InternshipLogicManager implements InternshipLogic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_DATA_NOT_LOADED = "Commands are disabled as the data file could not be loaded."
+            + " Fix or move the data file, then restart CareerSync.";
+
     private final Logger logger = LogsCenter.getLogger(InternshipLogicManager.class);
 
     private final InternshipModel model;
     private final InternshipStorage storage;
+    private final InternshipDataSaver saver;
     private final InternshipDataParser internshipDataParser;
+    private final CommandCompleter commandCompleter;
+
+    // The state of the find preview, if one is showing: the filter to restore when it ends,
+    // and the predicate that the internship list is currently previewing.
+    private Predicate<Internship> predicateBeforePreview;
+    private InternshipContainsKeywordsPredicate previewedPredicate;
+    private boolean isDataLoadFailed;
 
     /**
      * Constructs a {@code InternshipLogicManager} with the
      * given {@code InternshipModel} and {@code Storage}.
      */
     public InternshipLogicManager(InternshipModel model, InternshipStorage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code InternshipLogicManager} with the given {@code InternshipModel} and {@code Storage}, which
+     * saves the internship data after each command through {@code saver} if it is not null, instead of waiting for
+     * the data to be written. A failed save is then reported by the command after it.
+     */
+    public InternshipLogicManager(InternshipModel model, InternshipStorage storage, InternshipDataSaver saver) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
         internshipDataParser = new InternshipDataParser();
+        commandCompleter = new CommandCompleter(model);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        endFindPreview();
+        if (isDataLoadFailed) {
+            throw new CommandException(MESSAGE_DATA_NOT_LOADED);
+        }
 
-        CommandResult commandResult;
-        InternshipCommand command = internshipDataParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
-        try {
-            storage.saveInternshipData(model.getInternshipData());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        try (CommandMetrics.Trace trace = CommandMetrics.getInstance().startTrace()) {
+            InternshipCommand command = internshipDataParser.parseCommand(commandText);
+            trace.setCommandWord(getCommandWord(commandText));
+            trace.endPhase(CommandPhase.PARSE);
+
+            CommandResult commandResult = command.execute(model);
+            model.commitInternshipData();
+            trace.endPhase(CommandPhase.EXECUTE);
+
+            try {
+                if (saver == null) {
+                    storage.saveInternshipData(model.getInternshipData());
+                } else {
+                    saver.save(model.getInternshipSnapshot());
+                }
+            } catch (AccessDeniedException e) {
+                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            }
+            trace.endPhase(CommandPhase.PERSIST);
+
+            return commandResult;
         }
+    }
 
-        return commandResult;
+    /**
+     * Returns the command word of {@code commandText}, which is the first word of the command.
+     */
+    public static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0];
     }
 
     @Override
@@ -72,13 +126,76 @@ public class InternshipLogicManager implements InternshipLogic {
         return model.getFilteredInternshipList();
     }
 
+    @Override
+    public ObservableList<Internship> getInternshipPage() {
+        return model.getInternshipPage();
+    }
+
+    @Override
+    public int getPageIndex() {
+        return model.getPageIndex();
+    }
+
     @Override
     public void setSelectedInternship(Internship internship) {
         model.setSelectedInternship(internship);
     }
 
     @Override
-    public ObservableList<Internship> getSelectedInternship() {
+    public void loadInternshipData(ReadOnlyInternshipData internshipData) {
+        model.loadInternshipData(internshipData);
+    }
+
+    @Override
+    public void setDataLoadFailed() {
+        isDataLoadFailed = true;
+    }
+
+    @Override
+    public void previewFind(String findArgs, BooleanSupplier isCancelled) {
+        InternshipContainsKeywordsPredicate predicate;
+        try {
+            predicate = new InternshipFindCommandParser().parsePredicate(findArgs);
+        } catch (ParseException e) {
+            return;
+        }
+        if (predicate.equals(previewedPredicate)) {
+            return;
+        }
+
+        if (predicateBeforePreview == null) {
+            predicateBeforePreview = model.getFilteredInternshipPredicate();
+        }
+        // The internships matching a refinement are all among those matching the previewed predicate,
+        // so only those need to be tested.
+        boolean isRefinement = previewedPredicate != null && predicate.isRefinementOf(previewedPredicate);
+        if (model.previewFilteredInternshipList(predicate, isRefinement, isCancelled)) {
+            previewedPredicate = predicate;
+        }
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return commandCompleter.complete(commandText);
+    }
+
+    @Override
+    public void endFindPreview() {
+        if (predicateBeforePreview == null) {
+            return;
+        }
+        model.updateFilteredInternshipList(predicateBeforePreview);
+        predicateBeforePreview = null;
+        previewedPredicate = null;
+    }
+
+    @Override
+    public List<DeadlineIndex.DueTask> getTasksDue(LocalDate start, LocalDate end) {
+        return model.getTasksDue(start, end);
+    }
+
+    @Override
+    public Internship getSelectedInternship() {
         return model.getSelectedInternship();
     }
 
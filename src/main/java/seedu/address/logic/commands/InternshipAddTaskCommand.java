@@ -13,7 +13,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.internship.Internship;
 import seedu.address.model.internship.Task;
-import seedu.address.model.internship.TaskList;
 
 /**
  * Adds a task to an internship entry.
@@ -98,14 +97,6 @@ public class InternshipAddTaskCommand extends InternshipCommand {
      */
     private static Internship createInternshipWithTask(Internship internshipToAddTask, Task task) {
         assert internshipToAddTask != null;
-        TaskList newTaskList = internshipToAddTask.getTaskList().copy();
-        newTaskList.addTask(task);
-
-        return new Internship(internshipToAddTask.getCompanyName(), internshipToAddTask.getContactName(),
-                internshipToAddTask.getContactEmail(), internshipToAddTask.getContactNumber(),
-                internshipToAddTask.getLocation(), internshipToAddTask.getApplicationStatus(),
-                internshipToAddTask.getDescription(), internshipToAddTask.getRole(),
-                internshipToAddTask.getRemark(),
-                newTaskList);
+        return internshipToAddTask.withTaskList(internshipToAddTask.getTaskList().addTask(task));
     }
 }
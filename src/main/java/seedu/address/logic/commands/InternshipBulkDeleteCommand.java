@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.InternshipMessages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipContainsKeywordsPredicate;
+
+/**
+ * Deletes every internship in the internship data that matches a filter.
+ * All matching internships are removed in a single pass, so the change is applied and saved once.
+ */
+public class InternshipBulkDeleteCommand extends InternshipCommand {
+
+    public static final String COMMAND_WORD = InternshipDeleteCommand.COMMAND_WORD;
+
+    public static final String MESSAGE_DELETE_INTERNSHIPS_SUCCESS = "Deleted %1$d internship(s) matching the filter.";
+
+    private final InternshipContainsKeywordsPredicate predicate;
+
+    /**
+     * @param predicate filter that selects the internships to delete
+     */
+    public InternshipBulkDeleteCommand(InternshipContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(InternshipModel model) throws CommandException {
+        requireNonNull(model);
+
+        List<Internship> deletedInternships = model.deleteInternships(predicate);
+        if (deletedInternships.isEmpty()) {
+            throw new CommandException(InternshipMessages.MESSAGE_NO_INTERNSHIPS_MATCHED);
+        }
+
+        return new CommandResult(String.format(MESSAGE_DELETE_INTERNSHIPS_SUCCESS, deletedInternships.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InternshipBulkDeleteCommand)) {
+            return false;
+        }
+
+        InternshipBulkDeleteCommand otherBulkDeleteCommand = (InternshipBulkDeleteCommand) other;
+        return predicate.equals(otherBulkDeleteCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.InternshipModel.PREDICATE_SHOW_ALL_INTERNSHIPS;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.InternshipMessages;
+import seedu.address.logic.commands.InternshipEditCommand.EditInternshipDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipContainsKeywordsPredicate;
+import seedu.address.model.internship.exceptions.DuplicateInternshipException;
+
+/**
+ * Edits every internship in the internship data that matches a filter.
+ * All matching internships are edited in a single pass, so the change is applied and saved once.
+ */
+public class InternshipBulkEditCommand extends InternshipCommand {
+
+    public static final String COMMAND_WORD = InternshipEditCommand.COMMAND_WORD;
+
+    public static final String MESSAGE_EDIT_INTERNSHIPS_SUCCESS = "Edited %1$d internship(s) matching the filter.";
+
+    private final InternshipContainsKeywordsPredicate predicate;
+    private final EditInternshipDescriptor editInternshipDescriptor;
+
+    /**
+     * @param predicate filter that selects the internships to edit
+     * @param editInternshipDescriptor details to edit every matching internship with
+     */
+    public InternshipBulkEditCommand(InternshipContainsKeywordsPredicate predicate,
+            EditInternshipDescriptor editInternshipDescriptor) {
+        requireNonNull(predicate);
+        requireNonNull(editInternshipDescriptor);
+
+        this.predicate = predicate;
+        this.editInternshipDescriptor = new EditInternshipDescriptor(editInternshipDescriptor);
+    }
+
+    @Override
+    public CommandResult execute(InternshipModel model) throws CommandException {
+        requireNonNull(model);
+        List<Internship> editedInternships;
+        try {
+            editedInternships = model.editInternships(predicate, internship ->
+                    InternshipEditCommand.createEditedInternship(internship, editInternshipDescriptor));
+        } catch (DuplicateInternshipException e) {
+            throw new CommandException(InternshipEditCommand.MESSAGE_DUPLICATE_INTERNSHIP);
+        }
+
+        if (editedInternships.isEmpty()) {
+            throw new CommandException(InternshipMessages.MESSAGE_NO_INTERNSHIPS_MATCHED);
+        }
+
+        model.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
+
+        return new CommandResult(String.format(MESSAGE_EDIT_INTERNSHIPS_SUCCESS, editedInternships.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InternshipBulkEditCommand)) {
+            return false;
+        }
+
+        InternshipBulkEditCommand otherBulkEditCommand = (InternshipBulkEditCommand) other;
+        return predicate.equals(otherBulkEditCommand.predicate)
+                && editInternshipDescriptor.equals(otherBulkEditCommand.editInternshipDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .add("editInternshipDescriptor", editInternshipDescriptor)
+                .toString();
+    }
+}
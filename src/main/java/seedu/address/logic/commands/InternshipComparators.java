@@ -4,6 +4,7 @@ import java.util.Comparator;
 import java.util.Map;
 
 import seedu.address.model.internship.ApplicationStatus.StatusEnum;
+import seedu.address.model.internship.Deadline;
 import seedu.address.model.internship.Internship;
 
 /**
@@ -129,6 +130,33 @@ public class InternshipComparators {
         return comparator;
     }
 
+    /**
+     * Returns a comparator that compares two internships based on the earliest deadline of their tasks.
+     * Internships without any deadlines are placed last in either order.
+     * @param isAscending Whether to sort in ascending order.
+     * @return A comparator that compares two internships based on the earliest deadline of their tasks.
+     */
+    public static Comparator<Internship> byEarliestDeadline(boolean isAscending) {
+        Comparator<Deadline> deadlineComparator = isAscending
+                ? Comparator.naturalOrder()
+                : Comparator.reverseOrder();
+        return Comparator.comparing(internship -> internship.getEarliestDeadline().orElse(null),
+                Comparator.nullsLast(deadlineComparator));
+    }
+
+    /**
+     * Returns a comparator that compares two internships based on the number of tasks.
+     * @param isAscending Whether to sort in ascending order.
+     * @return A comparator that compares two internships based on the number of tasks.
+     */
+    public static Comparator<Internship> byTaskCount(boolean isAscending) {
+        Comparator<Internship> comparator = Comparator.comparingInt(Internship::getTaskListSize);
+        if (!isAscending) {
+            comparator = comparator.reversed();
+        }
+        return comparator;
+    }
+
     /**
      * Returns a comparator that compares two internships based on the location.
      * @param isAscending Whether to sort in ascending order.
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
 import java.util.List;
 
@@ -21,7 +22,10 @@ public class InternshipDeleteCommand extends InternshipCommand {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the internship identified by the index number used in the displayed internship list.\n"
             + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "To delete every internship matching a filter, replace INDEX with the filter used by find. "
+            + "MODE may be omitted and defaults to 'withall'.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_STATUS + " rejected";
 
     public static final String MESSAGE_DELETE_INTERNSHIP_SUCCESS = "Deleted Internship: %1$s";
 
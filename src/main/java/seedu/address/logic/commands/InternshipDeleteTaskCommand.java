@@ -58,10 +58,10 @@ public class InternshipDeleteTaskCommand extends InternshipCommand {
             throw new CommandException(InternshipMessages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
         Task taskToDelete = internshipToDeleteTask.getTaskList().getTask(taskIndex.getZeroBased());
-        internshipToDeleteTask.getTaskList().deleteTask(taskIndex.getZeroBased());
+        Internship internshipWithoutTask = createInternshipWithoutTask(internshipToDeleteTask,
+                taskIndex.getZeroBased());
 
-        // This is necessary to trigger the UI to update
-        model.setInternship(internshipToDeleteTask, internshipToDeleteTask);
+        model.setInternship(internshipToDeleteTask, internshipWithoutTask);
 
         model.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
 
@@ -91,4 +91,14 @@ public class InternshipDeleteTaskCommand extends InternshipCommand {
                 .add("taskIndex", taskIndex)
                 .toString();
     }
+
+    /**
+     * Creates and returns a copy of {@code internshipToDeleteTask} without the task at {@code zeroBasedTaskIndex}.
+     * The original internship is left unchanged so that earlier versions in the undo history stay intact.
+     */
+    private static Internship createInternshipWithoutTask(Internship internshipToDeleteTask, int zeroBasedTaskIndex) {
+        assert internshipToDeleteTask != null;
+        return internshipToDeleteTask.withTaskList(
+                internshipToDeleteTask.getTaskList().deleteTask(zeroBasedTaskIndex));
+    }
 }
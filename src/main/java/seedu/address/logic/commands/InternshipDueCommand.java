@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.DeadlineIndex.DueTask;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.internship.Deadline;
+
+/**
+ * Lists the tasks of all internships that are due within a range of dates, in order of their deadlines.
+ */
+public class InternshipDueCommand extends InternshipCommand {
+
+    public static final String COMMAND_WORD = "due";
+
+    /** The number of days, including today, that tasks are listed for when no dates are given. */
+    public static final int DEFAULT_DAYS = 7;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the tasks of all internships that are due "
+            + "from the first date to the second date, both inclusive, or on the date if only one is given. "
+            + "Lists the tasks due in the next " + DEFAULT_DAYS + " days, including today, if no date is given.\n"
+            + "Parameters: [START_DATE] [END_DATE]\n"
+            + Deadline.MESSAGE_CONSTRAINTS + "\n"
+            + "Example: " + COMMAND_WORD + " 01/04/2024 30/04/2024";
+
+    public static final String MESSAGE_END_BEFORE_START = "The end date must not be before the start date.";
+    public static final String MESSAGE_TASKS_DUE = "%1$d task(s) due from %2$s to %3$s:%4$s";
+    public static final String MESSAGE_NO_TASKS_DUE = "No tasks are due from %1$s to %2$s.";
+
+    private final LocalDate start;
+    private final LocalDate end;
+
+    /**
+     * Creates an InternshipDueCommand to list the tasks due from {@code start} to {@code end}, both inclusive.
+     */
+    public InternshipDueCommand(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        checkArgument(!end.isBefore(start), MESSAGE_END_BEFORE_START);
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns an InternshipDueCommand that lists the tasks due in the {@link #DEFAULT_DAYS} days from {@code today}.
+     */
+    public static InternshipDueCommand fromDate(LocalDate today) {
+        requireNonNull(today);
+        return new InternshipDueCommand(today, today.plusDays(DEFAULT_DAYS - 1));
+    }
+
+    @Override
+    public CommandResult execute(InternshipModel model) {
+        requireNonNull(model);
+        String startString = Deadline.fromDate(start).toString();
+        String endString = Deadline.fromDate(end).toString();
+        List<DueTask> dueTasks = model.getTasksDue(start, end);
+        if (dueTasks.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_TASKS_DUE, startString, endString));
+        }
+
+        return new CommandResult(String.format(MESSAGE_TASKS_DUE, dueTasks.size(), startString, endString,
+                formatDueTasks(dueTasks)));
+    }
+
+    /**
+     * Formats {@code dueTasks} as a numbered list, one task per line, with each line starting with a line break.
+     */
+    public static String formatDueTasks(List<DueTask> dueTasks) {
+        requireNonNull(dueTasks);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < dueTasks.size(); i++) {
+            DueTask dueTask = dueTasks.get(i);
+            builder.append("\n").append(i + 1).append(". ")
+                    .append(dueTask.getDeadline()).append(" ")
+                    .append(dueTask.getInternship().getCompanyName()).append(": ")
+                    .append(dueTask.getTask().task);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InternshipDueCommand)) {
+            return false;
+        }
+
+        InternshipDueCommand otherDueCommand = (InternshipDueCommand) other;
+        return start.equals(otherDueCommand.start) && end.equals(otherDueCommand.end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", end)
+                .toString();
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SET;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.model.InternshipModel.PREDICATE_SHOW_ALL_INTERNSHIPS;
 
@@ -57,7 +58,11 @@ public class InternshipEditCommand extends InternshipCommand {
             + "[" + PREFIX_REMARK + " REMARK]\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_CONTACT_EMAIL + " john@example.com "
-            + PREFIX_CONTACT_NUMBER + " 96661666";
+            + PREFIX_CONTACT_NUMBER + " 96661666\n"
+            + "To edit every internship matching a filter, replace INDEX with the filter used by find, "
+            + "followed by " + PREFIX_SET + " and the fields to edit.\n"
+            + "Example: " + COMMAND_WORD + " withall " + PREFIX_STATUS + " pending " + PREFIX_SET + " "
+            + PREFIX_REMARK + " Follow up";
 
     public static final String MESSAGE_EDIT_INTERNSHIP_SUCCESS = "Internship edited! New edited internship: %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
@@ -82,9 +87,6 @@ public class InternshipEditCommand extends InternshipCommand {
     public CommandResult execute(InternshipModel model) throws CommandException {
         requireNonNull(model);
         List<Internship> lastShownList = model.getFilteredInternshipList();
-        // This is the internship being displayed by the UI.
-        Internship currentSelectedInternship = model.getSelectedInternship().isEmpty() ? null
-                : model.getSelectedInternship().get(0);
 
         if (index.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(InternshipMessages.MESSAGE_INVALID_INTERNSHIP_DISPLAYED_INDEX);
@@ -92,9 +94,6 @@ public class InternshipEditCommand extends InternshipCommand {
 
         Internship internshipToEdit = lastShownList.get(index.getZeroBased());
 
-        // .equals() handles nulls check
-        boolean isCurrentSelectedInternshipBeingEdited = internshipToEdit.equals(currentSelectedInternship);
-
         Internship editedInternship = createEditedInternship(internshipToEdit, editInternshipDescriptor);
 
         if (!internshipToEdit.isSameInternship(editedInternship) && model.hasInternship(editedInternship)) {
@@ -104,11 +103,6 @@ public class InternshipEditCommand extends InternshipCommand {
         model.setInternship(internshipToEdit, editedInternship);
         model.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
 
-        if (isCurrentSelectedInternshipBeingEdited) {
-            // This maintains the selected internship across the edit.
-            model.setSelectedInternship(editedInternship);
-        }
-
         return new CommandResult(String.format(MESSAGE_EDIT_INTERNSHIP_SUCCESS,
                 InternshipMessages.format(editedInternship)));
     }
@@ -117,7 +111,7 @@ public class InternshipEditCommand extends InternshipCommand {
      * Creates and returns a {@code Internship} with the details of {@code internshipToEdit}
      * edited with {@code editInternshipDescriptor}.
      */
-    private static Internship createEditedInternship(Internship internshipToEdit,
+    static Internship createEditedInternship(Internship internshipToEdit,
                                                      EditInternshipDescriptor editInternshipDescriptor) {
         assert internshipToEdit != null;
 
@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.InternshipModel;
+
+/**
+ * Moves to another page of the displayed internship list.
+ */
+public class InternshipPageCommand extends InternshipCommand {
+
+    public static final String COMMAND_WORD = "page";
+    public static final String NEXT_PAGE = "next";
+    public static final String PREVIOUS_PAGE = "prev";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows another page of the internship list. "
+            + "Each page shows up to " + InternshipModel.PAGE_SIZE + " internships.\n"
+            + "Parameters: " + NEXT_PAGE + " | " + PREVIOUS_PAGE + " | PAGE_NUMBER (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " " + NEXT_PAGE + "\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_SUCCESS = "Showing page %1$d of %2$d (%3$d internships listed).";
+    public static final String MESSAGE_INVALID_PAGE = "There is no page %1$d. The list has %2$d page(s).";
+    public static final String MESSAGE_ALREADY_ON_LAST_PAGE = "Already showing the last page.";
+    public static final String MESSAGE_ALREADY_ON_FIRST_PAGE = "Already showing the first page.";
+
+    private final Index targetPage;
+    private final int step;
+
+    private InternshipPageCommand(Index targetPage, int step) {
+        this.targetPage = targetPage;
+        this.step = step;
+    }
+
+    /**
+     * Creates an InternshipPageCommand that shows the page at {@code targetPage}.
+     */
+    public InternshipPageCommand(Index targetPage) {
+        this(requireNonNull(targetPage), 0);
+    }
+
+    /**
+     * Returns an InternshipPageCommand that shows the page after the current one.
+     */
+    public static InternshipPageCommand nextPage() {
+        return new InternshipPageCommand(null, 1);
+    }
+
+    /**
+     * Returns an InternshipPageCommand that shows the page before the current one.
+     */
+    public static InternshipPageCommand previousPage() {
+        return new InternshipPageCommand(null, -1);
+    }
+
+    @Override
+    public CommandResult execute(InternshipModel model) throws CommandException {
+        requireNonNull(model);
+        int pageCount = model.getPageCount();
+
+        int pageIndex;
+        if (targetPage != null) {
+            pageIndex = targetPage.getZeroBased();
+            if (pageIndex >= pageCount) {
+                throw new CommandException(String.format(MESSAGE_INVALID_PAGE, targetPage.getOneBased(), pageCount));
+            }
+        } else {
+            pageIndex = model.getPageIndex() + step;
+            if (pageIndex >= pageCount) {
+                throw new CommandException(MESSAGE_ALREADY_ON_LAST_PAGE);
+            }
+            if (pageIndex < 0) {
+                throw new CommandException(MESSAGE_ALREADY_ON_FIRST_PAGE);
+            }
+        }
+
+        model.setPageIndex(pageIndex);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, pageIndex + 1, pageCount,
+                model.getFilteredInternshipList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InternshipPageCommand)) {
+            return false;
+        }
+
+        InternshipPageCommand otherPageCommand = (InternshipPageCommand) other;
+        return step == otherPageCommand.step
+                && (targetPage == null ? otherPageCommand.targetPage == null
+                        : targetPage.equals(otherPageCommand.targetPage));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetPage", targetPage)
+                .add("step", step)
+                .toString();
+    }
+}
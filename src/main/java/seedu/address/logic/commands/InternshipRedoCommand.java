@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.InternshipModel;
+
+/**
+ * Reapplies the most recently undone change to the internship data.
+ */
+public class InternshipRedoCommand extends InternshipCommand {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reapplies the most recently undone change.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "There are no changes to redo!";
+
+    @Override
+    public CommandResult execute(InternshipModel model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoInternshipData()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoInternshipData();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -72,7 +72,7 @@ public class InternshipRemarkCommand extends InternshipCommand {
      * the remark is added or removed
      */
     private String generateSuccessMessage() {
-        String message = !remark.value.isEmpty() ? MESSAGE_ADD_REMARK_SUCCESS : MESSAGE_DELETE_REMARK_SUCCESS;
+        String message = !remark.toString().isEmpty() ? MESSAGE_ADD_REMARK_SUCCESS : MESSAGE_DELETE_REMARK_SUCCESS;
         return String.format(message, this.remark);
     }
 
@@ -14,6 +14,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.internship.Deadline;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Task;
+import seedu.address.model.internship.TaskList;
 
 /**
  * Adds a deadline to a task in an internship, or replaces the deadline if there already is one.
@@ -65,10 +67,10 @@ public class InternshipSetDeadlineCommand extends InternshipCommand {
         if (taskIndex.getOneBased() > internshipToSetDeadline.getTaskList().getTaskListSize()) {
             throw new CommandException(InternshipMessages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
-        internshipToSetDeadline.getTaskList().getTask(taskIndex.getZeroBased()).setDeadline(deadline);
+        Internship internshipWithDeadline = createInternshipWithDeadline(internshipToSetDeadline,
+                taskIndex.getZeroBased(), deadline);
 
-        // This is necessary to trigger the UI to update the displayed deadline
-        model.setInternship(internshipToSetDeadline, internshipToSetDeadline);
+        model.setInternship(internshipToSetDeadline, internshipWithDeadline);
 
         model.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
 
@@ -101,4 +103,16 @@ public class InternshipSetDeadlineCommand extends InternshipCommand {
                 .add("deadline", deadline)
                 .toString();
     }
+
+    /**
+     * Creates and returns a copy of {@code internshipToSetDeadline} whose task at {@code zeroBasedTaskIndex} has
+     * the given {@code deadline}. The original internship and task are left unchanged.
+     */
+    private static Internship createInternshipWithDeadline(Internship internshipToSetDeadline,
+            int zeroBasedTaskIndex, Deadline deadline) {
+        assert internshipToSetDeadline != null;
+        TaskList taskList = internshipToSetDeadline.getTaskList();
+        Task taskWithDeadline = taskList.getTask(zeroBasedTaskIndex).withDeadline(deadline);
+        return internshipToSetDeadline.withTaskList(taskList.setTask(zeroBasedTaskIndex, taskWithDeadline));
+    }
 }
@@ -5,11 +5,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_NUMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK;
 
 import java.util.Comparator;
 
@@ -41,6 +43,8 @@ public class InternshipSortCommand extends InternshipCommand {
             + PREFIX_DESCRIPTION + ": Description\n"
             + PREFIX_ROLE + ": Role\n"
             + PREFIX_REMARK + ": Remark\n"
+            + PREFIX_DEADLINE + ": Earliest task deadline, internships without deadlines last\n"
+            + PREFIX_TASK + ": Number of tasks\n"
             + "ORDER: " + ORDER_ASCENDING + " or " + ORDER_DESCENDING + ", to specify ascending or descending order\n"
             + "Example: " + COMMAND_WORD + " /com " + ORDER_ASCENDING + "\n";
     public static final String MESSAGE_INVALID_FIELD = "Invalid field specified. Please specify one of the following:\n"
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.model.InternshipModel;
+
+/**
+ * Shows how long each phase of the commands run so far has taken.
+ */
+public class InternshipStatsCommand extends InternshipCommand {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long commands have taken to parse, "
+            + "execute, filter and sort, save and display, in milliseconds.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Command latencies since the app started:\n%1$s";
+    public static final String MESSAGE_NO_STATS = "No commands have been timed yet.";
+
+    private final CommandMetrics metrics;
+
+    public InternshipStatsCommand() {
+        this(CommandMetrics.getInstance());
+    }
+
+    /**
+     * Creates an InternshipStatsCommand that reports the timings recorded in {@code metrics}.
+     */
+    public InternshipStatsCommand(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CommandResult execute(InternshipModel model) {
+        requireNonNull(model);
+        String report = metrics.getReport();
+        if (report.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_STATS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, report));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InternshipStatsCommand)) {
+            return false;
+        }
+
+        InternshipStatsCommand otherStatsCommand = (InternshipStatsCommand) other;
+        return metrics == otherStatsCommand.metrics;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.InternshipColumnStore;
+import seedu.address.model.InternshipModel;
+
+/**
+ * Shows the number of internships with each application status and at each location, and the number of internships
+ * with an overdue task.
+ */
+public class InternshipSummaryCommand extends InternshipCommand {
+
+    public static final String COMMAND_WORD = "summary";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the number of internships with each "
+            + "application status and at each location, and the number of internships with an overdue task.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Summary of %1$d internship(s):\n"
+            + "By status: %2$s\n"
+            + "By location: %3$s\n"
+            + "With an overdue task: %4$d";
+
+    private final LocalDate today;
+
+    public InternshipSummaryCommand() {
+        this(LocalDate.now());
+    }
+
+    /**
+     * Creates an InternshipSummaryCommand that counts the tasks due before {@code today} as overdue.
+     */
+    public InternshipSummaryCommand(LocalDate today) {
+        requireNonNull(today);
+        this.today = today;
+    }
+
+    @Override
+    public CommandResult execute(InternshipModel model) {
+        requireNonNull(model);
+        InternshipColumnStore columnStore = model.getInternshipColumnStore();
+        // An internship has an overdue task exactly when its earliest deadline is before today.
+        int overdueCount = columnStore.countEarliestDeadlinesBetween(LocalDate.MIN, today.minusDays(1));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, columnStore.size(),
+                formatCounts(columnStore.countByStatus()), formatCounts(columnStore.countByLocation()),
+                overdueCount));
+    }
+
+    private static String formatCounts(Map<? extends Enum<?>, Integer> counts) {
+        return counts.entrySet().stream()
+                .map(entry -> entry.getKey() + " " + entry.getValue())
+                .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InternshipSummaryCommand)) {
+            return false;
+        }
+
+        InternshipSummaryCommand otherSummaryCommand = (InternshipSummaryCommand) other;
+        return today.equals(otherSummaryCommand.today);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("today", today)
+                .toString();
+    }
+}
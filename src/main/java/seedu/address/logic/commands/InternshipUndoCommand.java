@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.InternshipModel;
+
+/**
+ * Reverts the internship data to the state before the previous change.
+ */
+public class InternshipUndoCommand extends InternshipCommand {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reverts the most recent change to the internships.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "There are no changes to undo!";
+
+    @Override
+    public CommandResult execute(InternshipModel model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoInternshipData()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoInternshipData();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.logic.parser;
 
+import java.util.List;
+
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple commands
  */
@@ -17,4 +19,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_TASK = new Prefix("/task");
     public static final Prefix PREFIX_SELECT_TASK = new Prefix("/selecttask");
     public static final Prefix PREFIX_DEADLINE = new Prefix("/deadline");
+    public static final Prefix PREFIX_SET = new Prefix("/set");
+
+    /** Every prefix above, in alphabetical order. */
+    public static final List<Prefix> ALL_PREFIXES = List.of(PREFIX_COMPANY, PREFIX_DEADLINE, PREFIX_DESCRIPTION,
+            PREFIX_CONTACT_EMAIL, PREFIX_LOCATION, PREFIX_CONTACT_NUMBER, PREFIX_CONTACT_NAME, PREFIX_REMARK,
+            PREFIX_ROLE, PREFIX_SELECT_TASK, PREFIX_SET, PREFIX_STATUS, PREFIX_TASK);
 }
@@ -3,9 +3,12 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.InternshipMessages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.InternshipAddCommand;
@@ -14,14 +17,20 @@ import seedu.address.logic.commands.InternshipClearCommand;
 import seedu.address.logic.commands.InternshipCommand;
 import seedu.address.logic.commands.InternshipDeleteCommand;
 import seedu.address.logic.commands.InternshipDeleteTaskCommand;
+import seedu.address.logic.commands.InternshipDueCommand;
 import seedu.address.logic.commands.InternshipEditCommand;
 import seedu.address.logic.commands.InternshipExitCommand;
 import seedu.address.logic.commands.InternshipFindCommand;
 import seedu.address.logic.commands.InternshipHelpCommand;
 import seedu.address.logic.commands.InternshipListCommand;
+import seedu.address.logic.commands.InternshipPageCommand;
+import seedu.address.logic.commands.InternshipRedoCommand;
 import seedu.address.logic.commands.InternshipRemarkCommand;
 import seedu.address.logic.commands.InternshipSetDeadlineCommand;
 import seedu.address.logic.commands.InternshipSortCommand;
+import seedu.address.logic.commands.InternshipStatsCommand;
+import seedu.address.logic.commands.InternshipSummaryCommand;
+import seedu.address.logic.commands.InternshipUndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -29,6 +38,21 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class InternshipDataParser {
 
+    /**
+     * The command words of every command that {@link #parseCommand(String)} recognises, in alphabetical order.
+     */
+    public static final List<String> COMMAND_WORDS = Stream.of(InternshipAddCommand.COMMAND_WORD,
+            InternshipEditCommand.COMMAND_WORD, InternshipDeleteCommand.COMMAND_WORD,
+            InternshipClearCommand.COMMAND_WORD, InternshipFindCommand.COMMAND_WORD,
+            InternshipListCommand.COMMAND_WORD, InternshipExitCommand.COMMAND_WORD,
+            InternshipHelpCommand.COMMAND_WORD, InternshipRemarkCommand.COMMAND_WORD,
+            InternshipSortCommand.COMMAND_WORD, InternshipPageCommand.COMMAND_WORD,
+            InternshipAddTaskCommand.COMMAND_WORD, InternshipSetDeadlineCommand.COMMAND_WORD,
+            InternshipDeleteTaskCommand.COMMAND_WORD, InternshipUndoCommand.COMMAND_WORD,
+            InternshipRedoCommand.COMMAND_WORD, InternshipStatsCommand.COMMAND_WORD,
+            InternshipDueCommand.COMMAND_WORD, InternshipSummaryCommand.COMMAND_WORD)
+            .sorted().collect(Collectors.toUnmodifiableList());
+
     /**
      * Used for initial separation of command word and args.
      */
@@ -57,6 +81,7 @@ public class InternshipDataParser {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
+        // Note to developers: Add the command word of any new command to COMMAND_WORDS too.
         switch (commandWord) {
 
         case InternshipAddCommand.COMMAND_WORD:
@@ -89,6 +114,9 @@ public class InternshipDataParser {
         case InternshipSortCommand.COMMAND_WORD:
             return new InternshipSortCommandParser().parse(arguments);
 
+        case InternshipPageCommand.COMMAND_WORD:
+            return new InternshipPageCommandParser().parse(arguments);
+
         case InternshipAddTaskCommand.COMMAND_WORD:
             return new InternshipAddTaskCommandParser().parse(arguments);
 
@@ -98,6 +126,21 @@ public class InternshipDataParser {
         case InternshipDeleteTaskCommand.COMMAND_WORD:
             return new InternshipDeleteTaskCommandParser().parse(arguments);
 
+        case InternshipDueCommand.COMMAND_WORD:
+            return new InternshipDueCommandParser().parse(arguments);
+
+        case InternshipUndoCommand.COMMAND_WORD:
+            return new InternshipUndoCommand();
+
+        case InternshipRedoCommand.COMMAND_WORD:
+            return new InternshipRedoCommand();
+
+        case InternshipStatsCommand.COMMAND_WORD:
+            return new InternshipStatsCommand();
+
+        case InternshipSummaryCommand.COMMAND_WORD:
+            return new InternshipSummaryCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -5,22 +5,28 @@ import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_COMMAND_FOR
 import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_INTERNSHIP_DISPLAYED_INDEX;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.InternshipBulkDeleteCommand;
+import seedu.address.logic.commands.InternshipCommand;
 import seedu.address.logic.commands.InternshipDeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
- * Parses input arguments and creates a new InternshipDeleteCommand object
+ * Parses input arguments and creates a new InternshipDeleteCommand or InternshipBulkDeleteCommand object
  */
-public class InternshipDeleteCommandParser implements InternshipParser<InternshipDeleteCommand> {
+public class InternshipDeleteCommandParser implements InternshipParser<InternshipCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the InternshipDeleteCommand
-     * and returns a InternshipDeleteCommand object for execution.
+     * and returns a InternshipDeleteCommand object for execution, or an InternshipBulkDeleteCommand object
+     * if the arguments are a filter instead of an index.
      * @throws ParseException if the user input does not conform the expected format
      */
-
-    public InternshipDeleteCommand parse(String args) throws ParseException {
+    public InternshipCommand parse(String args) throws ParseException {
         requireNonNull(args);
+        if (InternshipFindCommandParser.isFilter(args)) {
+            return new InternshipBulkDeleteCommand(new InternshipFindCommandParser().parseFilter(args));
+        }
+
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args);
 
         Index index;
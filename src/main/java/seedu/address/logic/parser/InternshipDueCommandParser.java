@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.InternshipDueCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new InternshipDueCommand object
+ */
+public class InternshipDueCommandParser implements InternshipParser<InternshipDueCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the InternshipDueCommand
+     * and returns an InternshipDueCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public InternshipDueCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return InternshipDueCommand.fromDate(LocalDate.now());
+        }
+
+        String[] dates = trimmedArgs.split("\\s+");
+        if (dates.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    InternshipDueCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate start;
+        LocalDate end;
+        try {
+            start = InternshipParserUtil.parseDeadline(dates[0]).getDate();
+            end = dates.length == 2 ? InternshipParserUtil.parseDeadline(dates[1]).getDate() : start;
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    InternshipDueCommand.MESSAGE_USAGE), pe);
+        }
+        if (end.isBefore(start)) {
+            throw new ParseException(InternshipDueCommand.MESSAGE_END_BEFORE_START);
+        }
+        return new InternshipDueCommand(start, end);
+    }
+}
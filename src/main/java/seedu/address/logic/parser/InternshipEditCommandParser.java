@@ -11,26 +11,35 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SET;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.InternshipParserUtil.anyPrefixesPresent;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.InternshipBulkEditCommand;
+import seedu.address.logic.commands.InternshipCommand;
 import seedu.address.logic.commands.InternshipEditCommand;
 import seedu.address.logic.commands.InternshipEditCommand.EditInternshipDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
- * Parses input arguments and creates a new InternshipEditCommand object
+ * Parses input arguments and creates a new InternshipEditCommand or InternshipBulkEditCommand object
  */
-public class InternshipEditCommandParser implements InternshipParser<InternshipEditCommand> {
+public class InternshipEditCommandParser implements InternshipParser<InternshipCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the InternshipEditCommand
-     * and returns an InternshipEditCommand object for execution.
+     * and returns an InternshipEditCommand object for execution, or an InternshipBulkEditCommand object
+     * if the arguments contain a filter followed by {@code /set}.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public InternshipEditCommand parse(String args) throws ParseException {
+    public InternshipCommand parse(String args) throws ParseException {
         requireNonNull(args);
+        ArgumentMultimap setArgMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SET);
+        if (setArgMultimap.getValue(PREFIX_SET).isPresent()) {
+            return parseBulkEdit(setArgMultimap);
+        }
+
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_COMPANY, PREFIX_CONTACT_NAME, PREFIX_CONTACT_EMAIL,
                         PREFIX_CONTACT_NUMBER, PREFIX_LOCATION, PREFIX_STATUS, PREFIX_DESCRIPTION, PREFIX_ROLE,
@@ -51,6 +60,41 @@ public class InternshipEditCommandParser implements InternshipParser<InternshipE
             throw new ParseException(MESSAGE_INVALID_INTERNSHIP_DISPLAYED_INDEX);
         }
 
+        return new InternshipEditCommand(index, parseEditInternshipDescriptor(argMultimap));
+    }
+
+    /**
+     * Parses a bulk edit in the {@code FILTER /set FIELDS} format, where {@code FILTER} uses the format of the
+     * find command and {@code FIELDS} uses the format of a single edit.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    private InternshipBulkEditCommand parseBulkEdit(ArgumentMultimap setArgMultimap) throws ParseException {
+        setArgMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SET);
+
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(" " + setArgMultimap.getValue(PREFIX_SET).get(), PREFIX_COMPANY,
+                        PREFIX_CONTACT_NAME, PREFIX_CONTACT_EMAIL, PREFIX_CONTACT_NUMBER, PREFIX_LOCATION,
+                        PREFIX_STATUS, PREFIX_DESCRIPTION, PREFIX_ROLE, PREFIX_REMARK);
+
+        if (!anyPrefixesPresent(argMultimap, PREFIX_COMPANY, PREFIX_DESCRIPTION, PREFIX_STATUS, PREFIX_CONTACT_NAME,
+                PREFIX_CONTACT_EMAIL, PREFIX_CONTACT_NUMBER, PREFIX_LOCATION, PREFIX_ROLE, PREFIX_REMARK)
+                || !argMultimap.getPreamble().isEmpty()
+                || !InternshipFindCommandParser.isFilter(setArgMultimap.getPreamble())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    InternshipEditCommand.MESSAGE_USAGE));
+        }
+
+        return new InternshipBulkEditCommand(
+                new InternshipFindCommandParser().parseFilter(setArgMultimap.getPreamble()),
+                parseEditInternshipDescriptor(argMultimap));
+    }
+
+    /**
+     * Parses the fields to edit in {@code argMultimap} into an {@code EditInternshipDescriptor}.
+     * @throws ParseException if a field is invalid or no field is edited
+     */
+    private EditInternshipDescriptor parseEditInternshipDescriptor(ArgumentMultimap argMultimap)
+            throws ParseException {
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_COMPANY, PREFIX_CONTACT_NAME, PREFIX_CONTACT_EMAIL,
                 PREFIX_CONTACT_NUMBER, PREFIX_LOCATION, PREFIX_STATUS, PREFIX_DESCRIPTION, PREFIX_ROLE, PREFIX_REMARK);
 
@@ -97,6 +141,6 @@ public class InternshipEditCommandParser implements InternshipParser<InternshipE
             throw new ParseException(InternshipEditCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new InternshipEditCommand(index, editInternshipDescriptor);
+        return editInternshipDescriptor;
     }
 }
@@ -47,6 +47,16 @@ public class InternshipFindCommandParser implements InternshipParser<InternshipF
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, InternshipFindCommand.MESSAGE_USAGE));
         }
+        return new InternshipFindCommand(parsePredicate(args));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the {@code MODE [PREFIX KEYWORDS]...} format used by the
+     * find command and returns the corresponding {@code InternshipContainsKeywordsPredicate}.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public InternshipContainsKeywordsPredicate parsePredicate(String args) throws ParseException {
+        requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, InternshipFindCommandParser.supportedPrefixes);
 
@@ -75,7 +85,35 @@ public class InternshipFindCommandParser implements InternshipParser<InternshipF
         }
 
         argMultimap.verifyNoDuplicatePrefixesFor(InternshipFindCommandParser.supportedPrefixes);
-        return new InternshipFindCommand(createPredicate(mode, argMultimap));
+        return createPredicate(mode, argMultimap);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments as a filter for commands that act on every matching internship.
+     * The filter uses the same format as the find command, except that {@code MODE} may be omitted,
+     * in which case it defaults to {@code withall}.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public InternshipContainsKeywordsPredicate parseFilter(String args) throws ParseException {
+        requireNonNull(args);
+        String filter = " " + args.trim();
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(filter, InternshipFindCommandParser.supportedPrefixes);
+
+        if (argMultimap.getPreamble().isEmpty()) {
+            filter = " " + MODE_WITHALL + filter;
+        }
+        return parsePredicate(filter);
+    }
+
+    /**
+     * Returns true if any of the prefixes supported by the find command is present in {@code args}.
+     */
+    public static boolean isFilter(String args) {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(" " + args.trim(), InternshipFindCommandParser.supportedPrefixes);
+        return anyPrefixesPresent(argMultimap, InternshipFindCommandParser.supportedPrefixes);
     }
 
     /**
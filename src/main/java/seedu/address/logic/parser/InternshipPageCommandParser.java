@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.InternshipPageCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new InternshipPageCommand object
+ */
+public class InternshipPageCommandParser implements InternshipParser<InternshipPageCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the InternshipPageCommand
+     * and returns an InternshipPageCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public InternshipPageCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+
+        if (trimmedArgs.equalsIgnoreCase(InternshipPageCommand.NEXT_PAGE)) {
+            return InternshipPageCommand.nextPage();
+        }
+        if (trimmedArgs.equalsIgnoreCase(InternshipPageCommand.PREVIOUS_PAGE)) {
+            return InternshipPageCommand.previousPage();
+        }
+
+        try {
+            return new InternshipPageCommand(InternshipParserUtil.parseIndex(trimmedArgs));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    InternshipPageCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -9,11 +9,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_NUMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK;
 
 import java.util.Comparator;
 import java.util.Optional;
@@ -31,7 +33,7 @@ import seedu.address.model.internship.Internship;
 public class InternshipSortCommandParser implements InternshipParser<InternshipSortCommand> {
     public static final Prefix[] SUPPORTED_PREFIXES = {
         PREFIX_COMPANY, PREFIX_CONTACT_NAME, PREFIX_CONTACT_NUMBER, PREFIX_CONTACT_EMAIL,
-        PREFIX_LOCATION, PREFIX_STATUS, PREFIX_DESCRIPTION, PREFIX_ROLE, PREFIX_REMARK
+        PREFIX_LOCATION, PREFIX_STATUS, PREFIX_DESCRIPTION, PREFIX_ROLE, PREFIX_REMARK, PREFIX_DEADLINE, PREFIX_TASK
     };
 
     private static final Logger logger = LogsCenter.getLogger(InternshipSortCommandParser.class);
@@ -45,7 +47,9 @@ public class InternshipSortCommandParser implements InternshipParser<InternshipS
         STATUS(PREFIX_STATUS.getPrefix()),
         LOCATION(PREFIX_LOCATION.getPrefix()),
         ROLE(PREFIX_ROLE.getPrefix()),
-        REMARK(PREFIX_REMARK.getPrefix());
+        REMARK(PREFIX_REMARK.getPrefix()),
+        EARLIEST_DEADLINE(PREFIX_DEADLINE.getPrefix()),
+        TASK_COUNT(PREFIX_TASK.getPrefix());
 
         private final String value;
 
@@ -218,6 +222,10 @@ public class InternshipSortCommandParser implements InternshipParser<InternshipS
             return InternshipComparators.byRemark(isAscending);
         case DESCRIPTION:
             return InternshipComparators.byDescription(isAscending);
+        case EARLIEST_DEADLINE:
+            return InternshipComparators.byEarliestDeadline(isAscending);
+        case TASK_COUNT:
+            return InternshipComparators.byTaskCount(isAscending);
         default:
             throw new IllegalArgumentException("Invalid field for sorting: " + field);
         }
@@ -0,0 +1,184 @@
+package seedu.address.model;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.util.PersistentVector;
+
+/**
+ * An {@code InternshipModelManager} that can be read from other threads while commands are being executed.
+ * All changes are serialized by a single lock. After each change, the new contents of the internship data are
+ * published as an immutable {@code PersistentVector} snapshot, so background readers such as savers, indexers and
+ * reports can iterate over a consistent version of the full data set without copying it and without taking the
+ * lock. The GUI settings and data file path are published the same way.
+ * The observable lists and the {@code InternshipData} returned by this model are not thread-safe and should only be
+ * used by the thread that executes commands.
+ */
+public class ConcurrentInternshipModelManager extends InternshipModelManager {
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile PersistentVector<Internship> snapshot;
+    private volatile GuiSettings guiSettings;
+    private volatile Path internshipDataFilePath;
+
+    /**
+     * Initializes a ConcurrentInternshipModelManager with the given internshipData and userPrefs.
+     */
+    public ConcurrentInternshipModelManager(ReadOnlyInternshipData internshipData,
+            ReadOnlyInternshipUserPrefs userPrefs) {
+        super(internshipData, userPrefs);
+        publish();
+    }
+
+    public ConcurrentInternshipModelManager() {
+        this(new InternshipData(), new InternshipUserPrefs());
+    }
+
+    /**
+     * Runs {@code change} while holding the write lock, then publishes the new state to readers.
+     */
+    private void write(Runnable change) {
+        write(() -> {
+            change.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code change} while holding the write lock, then publishes the new state to readers.
+     */
+    private <T> T write(Supplier<T> change) {
+        writeLock.lock();
+        try {
+            return change.get();
+        } finally {
+            publish();
+            writeLock.unlock();
+        }
+    }
+
+    private void publish() {
+        snapshot = super.getInternshipSnapshot();
+        guiSettings = super.getGuiSettings();
+        internshipDataFilePath = super.getInternshipDataFilePath();
+    }
+
+    /**
+     * Returns the most recently published snapshot of the internship data.
+     * This never blocks, even while a change is being made.
+     */
+    @Override
+    public PersistentVector<Internship> getInternshipSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return guiSettings;
+    }
+
+    @Override
+    public Path getInternshipDataFilePath() {
+        return internshipDataFilePath;
+    }
+
+    @Override
+    public void setUserPrefs(ReadOnlyInternshipUserPrefs userPrefs) {
+        write(() -> super.setUserPrefs(userPrefs));
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        write(() -> super.setGuiSettings(guiSettings));
+    }
+
+    @Override
+    public void setInternshipDataFilePath(Path internshipDataFilePath) {
+        write(() -> super.setInternshipDataFilePath(internshipDataFilePath));
+    }
+
+    @Override
+    public void setInternshipData(ReadOnlyInternshipData internshipData) {
+        write(() -> super.setInternshipData(internshipData));
+    }
+
+    @Override
+    public void loadInternshipData(ReadOnlyInternshipData internshipData) {
+        write(() -> super.loadInternshipData(internshipData));
+    }
+
+    @Override
+    public void deleteInternship(Internship target) {
+        write(() -> super.deleteInternship(target));
+    }
+
+    @Override
+    public void addInternship(Internship internship) {
+        write(() -> super.addInternship(internship));
+    }
+
+    @Override
+    public void setInternship(Internship target, Internship editedInternship) {
+        write(() -> super.setInternship(target, editedInternship));
+    }
+
+    @Override
+    public List<Internship> deleteInternships(Predicate<Internship> predicate) {
+        return write(() -> super.deleteInternships(predicate));
+    }
+
+    @Override
+    public List<Internship> editInternships(Predicate<Internship> predicate, UnaryOperator<Internship> editor) {
+        return write(() -> super.editInternships(predicate, editor));
+    }
+
+    @Override
+    public void commitInternshipData() {
+        write(super::commitInternshipData);
+    }
+
+    @Override
+    public void undoInternshipData() {
+        write(super::undoInternshipData);
+    }
+
+    @Override
+    public void redoInternshipData() {
+        write(super::redoInternshipData);
+    }
+
+    @Override
+    public void updateFilteredInternshipList(Predicate<Internship> predicate) {
+        write(() -> super.updateFilteredInternshipList(predicate));
+    }
+
+    @Override
+    public boolean previewFilteredInternshipList(Predicate<Internship> predicate, boolean isRefinement,
+            BooleanSupplier isCancelled) {
+        return write(() -> super.previewFilteredInternshipList(predicate, isRefinement, isCancelled));
+    }
+
+    @Override
+    public void sortFilteredInternshipList(Comparator<Internship> comparator) {
+        write(() -> super.sortFilteredInternshipList(comparator));
+    }
+
+    @Override
+    public void setSelectedInternship(Internship internship) {
+        write(() -> super.setSelectedInternship(internship));
+    }
+
+    @Override
+    public void setPageIndex(int pageIndex) {
+        write(() -> super.setPageIndex(pageIndex));
+    }
+}
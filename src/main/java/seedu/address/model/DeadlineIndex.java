@@ -0,0 +1,177 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.internship.Deadline;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Task;
+import seedu.address.model.internship.TaskList;
+
+/**
+ * Keeps the tasks of a list of internships that have a deadline in order of their deadlines, so that the tasks due
+ * within a range of dates can be found without going through every task of every internship.
+ * The index follows the changes to the list, so tasks are indexed when they are added, given a deadline or restored
+ * by an undo, and unindexed when they are deleted. Only the tasks of the internships added to or removed from the
+ * list are indexed or unindexed, and the index is rebuilt when the whole list is replaced.
+ * The index is updated on the thread that changes the list, and must only be read from that thread.
+ */
+public class DeadlineIndex {
+
+    // Keyed by the epoch day of the deadline, so that lookups compare ints instead of dates.
+    private final NavigableMap<Integer, List<DueTask>> tasksByEpochDay = new TreeMap<>();
+
+    /**
+     * Creates an index of the tasks of {@code internships} that stays up to date as the list changes.
+     */
+    public DeadlineIndex(ObservableList<Internship> internships) {
+        requireNonNull(internships);
+        internships.forEach(this::add);
+        internships.addListener((ListChangeListener<Internship>) this::handleChange);
+    }
+
+    private void handleChange(ListChangeListener.Change<? extends Internship> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            if (change.getAddedSize() == change.getList().size()) {
+                // the whole list was replaced, e.g. by an undo, so the index is rebuilt instead of updated task by task
+                tasksByEpochDay.clear();
+            } else {
+                remove(change.getRemoved());
+            }
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Internship internship) {
+        TaskList taskList = internship.getTaskList();
+        if (taskList == null) {
+            return;
+        }
+        for (int i = 0; i < taskList.getTaskListSize(); i++) {
+            Task task = taskList.getTask(i);
+            task.getDeadline().ifPresent(deadline -> tasksByEpochDay
+                    .computeIfAbsent(deadline.getEpochDay(), unused -> new ArrayList<>())
+                    .add(new DueTask(internship, task, deadline)));
+        }
+    }
+
+    /**
+     * Unindexes the tasks of {@code internships}, going through the tasks due on each of their deadlines once.
+     */
+    private void remove(List<? extends Internship> internships) {
+        // Equal internships may both be in the list, so tasks are matched by internship object.
+        Set<Internship> removedInternships = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Integer> epochDays = new HashSet<>();
+        for (Internship internship : internships) {
+            TaskList taskList = internship.getTaskList();
+            if (taskList == null) {
+                continue;
+            }
+            removedInternships.add(internship);
+            for (int i = 0; i < taskList.getTaskListSize(); i++) {
+                taskList.getTask(i).getDeadline().ifPresent(deadline -> epochDays.add(deadline.getEpochDay()));
+            }
+        }
+        for (int epochDay : epochDays) {
+            tasksByEpochDay.computeIfPresent(epochDay, (unused, dueTasks) -> {
+                dueTasks.removeIf(dueTask -> removedInternships.contains(dueTask.internship));
+                return dueTasks.isEmpty() ? null : dueTasks;
+            });
+        }
+    }
+
+    /**
+     * Returns the tasks due from {@code start} to {@code end}, both inclusive, in order of their deadlines.
+     * Tasks due on the same date are in the order they were indexed.
+     *
+     * @throws IllegalArgumentException if {@code end} is before {@code start}.
+     */
+    public List<DueTask> getTasksDue(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        checkArgument(!end.isBefore(start), "The end date must not be before the start date.");
+        List<DueTask> dueTasks = new ArrayList<>();
+        tasksByEpochDay.subMap(Math.toIntExact(start.toEpochDay()), true, Math.toIntExact(end.toEpochDay()), true)
+                .values().forEach(dueTasks::addAll);
+        return dueTasks;
+    }
+
+    /**
+     * A task with a deadline, together with the internship it belongs to.
+     */
+    public static class DueTask {
+        private final Internship internship;
+        private final Task task;
+        private final Deadline deadline;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public DueTask(Internship internship, Task task, Deadline deadline) {
+            requireAllNonNull(internship, task, deadline);
+            this.internship = internship;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public Internship getInternship() {
+            return internship;
+        }
+
+        public Task getTask() {
+            return task;
+        }
+
+        public Deadline getDeadline() {
+            return deadline;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof DueTask)) {
+                return false;
+            }
+
+            DueTask otherDueTask = (DueTask) other;
+            return internship.equals(otherDueTask.internship)
+                    && task.equals(otherDueTask.task)
+                    && deadline.equals(otherDueTask.deadline);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(internship, task, deadline);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("internship", internship)
+                    .add("task", task)
+                    .add("deadline", deadline)
+                    .toString();
+        }
+    }
+}
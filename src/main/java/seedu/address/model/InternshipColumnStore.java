@@ -0,0 +1,338 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.internship.ApplicationStatus;
+import seedu.address.model.internship.ApplicationStatus.StatusEnum;
+import seedu.address.model.internship.CompanyName;
+import seedu.address.model.internship.ContactEmail;
+import seedu.address.model.internship.ContactName;
+import seedu.address.model.internship.ContactNumber;
+import seedu.address.model.internship.Deadline;
+import seedu.address.model.internship.Description;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Location;
+import seedu.address.model.internship.Location.LocationEnum;
+import seedu.address.model.internship.Remark;
+import seedu.address.model.internship.Role;
+import seedu.address.model.internship.TaskList;
+
+/**
+ * Stores a list of internships column by column instead of internship by internship, for queries that read one or two
+ * fields of every internship, such as counting internships by status.
+ * String fields are dictionary-encoded, so each distinct value is stored once and every row holds an int code.
+ * Remarks are kept as the {@code Remark} objects of the internships instead, as long remarks may be lazy and are only
+ * loaded when they are searched.
+ * Statuses and locations are stored as one byte per row, and the earliest task deadline of each row as an int epoch
+ * day, so counts and filters over them are scans of a single primitive array.
+ * {@link #get(int)} and {@link #asList()} rebuild {@code Internship} objects from the columns for callers that need
+ * them.
+ * The store follows the changes to the list: only the rows of the internships added to or removed from the list are
+ * written or moved, and the store is rebuilt when the whole list is replaced.
+ * The store is updated on the thread that changes the list, and must only be read from that thread.
+ */
+public class InternshipColumnStore {
+
+    /** The epoch day stored for an internship without any task deadline. */
+    public static final int NO_DEADLINE = Integer.MAX_VALUE;
+
+    private static final StatusEnum[] STATUSES = StatusEnum.values();
+    private static final LocationEnum[] LOCATIONS = LocationEnum.values();
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final StringColumn companyNames =
+            new StringColumn(internship -> internship.getCompanyName().companyName);
+    private final StringColumn contactNames =
+            new StringColumn(internship -> internship.getContactName().contactName);
+    private final StringColumn contactEmails = new StringColumn(internship -> internship.getContactEmail().value);
+    private final StringColumn contactNumbers = new StringColumn(internship -> internship.getContactNumber().value);
+    private final StringColumn descriptions =
+            new StringColumn(internship -> internship.getDescription().description);
+    private final StringColumn roles = new StringColumn(internship -> internship.getRole().role);
+    private final List<StringColumn> stringColumns =
+            List.of(companyNames, contactNames, contactEmails, contactNumbers, descriptions, roles);
+
+    private int size;
+    private Remark[] remarks = new Remark[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private byte[] locations = new byte[INITIAL_CAPACITY];
+    private int[] earliestDeadlines = new int[INITIAL_CAPACITY];
+    private TaskList[] taskLists = new TaskList[INITIAL_CAPACITY];
+
+    /**
+     * Creates a column store of {@code internships}, in the same order, that stays up to date as the list changes.
+     */
+    public InternshipColumnStore(ObservableList<Internship> internships) {
+        requireNonNull(internships);
+        replaceRows(0, 0, internships);
+        internships.addListener((ListChangeListener<Internship>) this::handleChange);
+    }
+
+    private void handleChange(ListChangeListener.Change<? extends Internship> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue;
+            }
+            if (change.wasPermutated() || change.getAddedSize() == change.getList().size()) {
+                // the whole list was reordered or replaced, e.g. by an undo, so the store is rebuilt from it
+                replaceRows(0, size, change.getList());
+                return;
+            } else {
+                replaceRows(change.getFrom(), change.getRemovedSize(), change.getAddedSubList());
+            }
+        }
+    }
+
+    /**
+     * Replaces the {@code removedCount} rows starting at {@code from} with the rows of {@code added}.
+     */
+    void replaceRows(int from, int removedCount, List<? extends Internship> added) {
+        if (from < 0 || removedCount < 0 || from + removedCount > size) {
+            throw new IndexOutOfBoundsException("Rows " + from + " to " + (from + removedCount) + " are out of "
+                    + "bounds for " + size + " internships.");
+        }
+        int newSize = size - removedCount + added.size();
+        ensureCapacity(newSize);
+        int tailStart = from + removedCount;
+        int tailLength = size - tailStart;
+        int newTailStart = from + added.size();
+        System.arraycopy(remarks, tailStart, remarks, newTailStart, tailLength);
+        System.arraycopy(statuses, tailStart, statuses, newTailStart, tailLength);
+        System.arraycopy(locations, tailStart, locations, newTailStart, tailLength);
+        System.arraycopy(earliestDeadlines, tailStart, earliestDeadlines, newTailStart, tailLength);
+        System.arraycopy(taskLists, tailStart, taskLists, newTailStart, tailLength);
+        if (newSize < size) {
+            // rows left over at the end no longer hold internships, so their objects can be collected
+            Arrays.fill(remarks, newSize, size, null);
+            Arrays.fill(taskLists, newSize, size, null);
+        }
+        for (StringColumn column : stringColumns) {
+            column.moveRows(tailStart, newTailStart, tailLength);
+        }
+
+        for (int i = 0; i < added.size(); i++) {
+            int row = from + i;
+            Internship internship = added.get(i);
+            for (StringColumn column : stringColumns) {
+                column.set(row, internship);
+            }
+            statuses[row] = (byte) internship.getApplicationStatus().getStatus().ordinal();
+            locations[row] = (byte) internship.getLocation().getLocation().ordinal();
+            remarks[row] = internship.getRemark();
+            taskLists[row] = internship.getTaskList();
+            earliestDeadlines[row] = taskLists[row] == null
+                    ? NO_DEADLINE
+                    : internship.getEarliestDeadline().map(Deadline::getEpochDay).orElse(NO_DEADLINE);
+        }
+        size = newSize;
+        for (StringColumn column : stringColumns) {
+            column.compactIfSparse(size);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= statuses.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, statuses.length * 2);
+        remarks = Arrays.copyOf(remarks, newCapacity);
+        statuses = Arrays.copyOf(statuses, newCapacity);
+        locations = Arrays.copyOf(locations, newCapacity);
+        earliestDeadlines = Arrays.copyOf(earliestDeadlines, newCapacity);
+        taskLists = Arrays.copyOf(taskLists, newCapacity);
+        for (StringColumn column : stringColumns) {
+            column.ensureCapacity(newCapacity);
+        }
+    }
+
+    /**
+     * Returns the number of internships in this store.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the internship at {@code row}, rebuilt from the columns.
+     * The internship is equal to the one in the list, but is a new object on every call.
+     */
+    public Internship get(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " is out of bounds for " + size + " internships.");
+        }
+        return new Internship(CompanyName.of(companyNames.get(row)), ContactName.of(contactNames.get(row)),
+                new ContactEmail(contactEmails.get(row)), new ContactNumber(contactNumbers.get(row)),
+                Location.of(LOCATIONS[locations[row]]), ApplicationStatus.of(STATUSES[statuses[row]]),
+                new Description(descriptions.get(row)), Role.of(roles.get(row)), remarks[row],
+                taskLists[row]);
+    }
+
+    /**
+     * Returns an unmodifiable list view of the internships in this store, which rebuilds each internship when it is
+     * read.
+     */
+    public List<Internship> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Internship get(int row) {
+                return InternshipColumnStore.this.get(row);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns the number of internships with each application status, including statuses with no internships.
+     */
+    public Map<StatusEnum, Integer> countByStatus() {
+        int[] counts = new int[STATUSES.length];
+        for (int row = 0; row < size; row++) {
+            counts[statuses[row]]++;
+        }
+        Map<StatusEnum, Integer> countsByStatus = new EnumMap<>(StatusEnum.class);
+        for (StatusEnum status : STATUSES) {
+            countsByStatus.put(status, counts[status.ordinal()]);
+        }
+        return countsByStatus;
+    }
+
+    /**
+     * Returns the number of internships at each location, including locations with no internships.
+     */
+    public Map<LocationEnum, Integer> countByLocation() {
+        int[] counts = new int[LOCATIONS.length];
+        for (int row = 0; row < size; row++) {
+            counts[locations[row]]++;
+        }
+        Map<LocationEnum, Integer> countsByLocation = new EnumMap<>(LocationEnum.class);
+        for (LocationEnum location : LOCATIONS) {
+            countsByLocation.put(location, counts[location.ordinal()]);
+        }
+        return countsByLocation;
+    }
+
+    /**
+     * Returns the number of internships whose earliest task deadline is from {@code start} to {@code end}, both
+     * inclusive.
+     *
+     * @throws IllegalArgumentException if {@code end} is before {@code start}.
+     */
+    public int countEarliestDeadlinesBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        checkArgument(!end.isBefore(start), "The end date must not be before the start date.");
+        long startDay = start.toEpochDay();
+        long endDay = end.toEpochDay();
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            int epochDay = earliestDeadlines[row];
+            if (epochDay != NO_DEADLINE && epochDay >= startDay && epochDay <= endDay) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the internships with the application status {@code status}, in order.
+     */
+    public List<Internship> filterByStatus(StatusEnum status) {
+        requireNonNull(status);
+        byte code = (byte) status.ordinal();
+        List<Internship> matches = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (statuses[row] == code) {
+                matches.add(get(row));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the internships whose remark contains {@code keyword}, ignoring case, in order.
+     * Lazy remarks are loaded to be searched.
+     */
+    public List<Internship> findByRemark(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        List<Internship> matches = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (remarks[row].toString().toLowerCase().contains(lowerCaseKeyword)) {
+                matches.add(get(row));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * A dictionary-encoded column of strings. Each distinct value is stored once in the dictionary, in the order it
+     * first appears, and each row holds the position of its value in the dictionary.
+     * Values that are no longer in any row stay in the dictionary until it is compacted, which happens once the
+     * dictionary has grown much larger than the column.
+     */
+    private static class StringColumn {
+        private final Function<Internship, String> field;
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> codesByValue = new HashMap<>();
+        private int[] codes = new int[INITIAL_CAPACITY];
+
+        private StringColumn(Function<Internship, String> field) {
+            this.field = field;
+        }
+
+        private String get(int row) {
+            return dictionary.get(codes[row]);
+        }
+
+        private void set(int row, Internship internship) {
+            codes[row] = encode(field.apply(internship));
+        }
+
+        private int encode(String value) {
+            return codesByValue.computeIfAbsent(value, unused -> {
+                dictionary.add(value);
+                return dictionary.size() - 1;
+            });
+        }
+
+        private void moveRows(int from, int to, int length) {
+            System.arraycopy(codes, from, codes, to, length);
+        }
+
+        private void ensureCapacity(int capacity) {
+            codes = Arrays.copyOf(codes, capacity);
+        }
+
+        /**
+         * Rebuilds the dictionary from the first {@code size} rows if it holds many values that are not in any row.
+         */
+        private void compactIfSparse(int size) {
+            if (dictionary.size() <= 2 * size + INITIAL_CAPACITY) {
+                return;
+            }
+            List<String> oldDictionary = new ArrayList<>(dictionary);
+            dictionary.clear();
+            codesByValue.clear();
+            for (int row = 0; row < size; row++) {
+                codes[row] = encode(oldDictionary.get(codes[row]));
+            }
+        }
+    }
+}
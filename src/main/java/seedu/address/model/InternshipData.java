@@ -3,11 +3,14 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.internship.Internship;
 import seedu.address.model.internship.UniqueInternshipList;
+import seedu.address.model.util.PersistentVector;
 
 /**
  * Wraps all data at the internship-display level
@@ -17,6 +20,9 @@ public class InternshipData implements ReadOnlyInternshipData {
 
     private final UniqueInternshipList internshipList;
 
+    // Built on first use, and then kept up to date as the list changes.
+    private InternshipColumnStore columnStore;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -90,6 +96,60 @@ public class InternshipData implements ReadOnlyInternshipData {
         internshipList.remove(key);
     }
 
+    /**
+     * Removes all internships that match {@code predicate} in a single pass.
+     *
+     * @return the removed internships.
+     */
+    public List<Internship> removeInternships(Predicate<Internship> predicate) {
+        return internshipList.removeIf(predicate);
+    }
+
+    /**
+     * Replaces all internships that match {@code predicate} with the result of applying {@code editor} to them,
+     * in a single pass. The edited internships must not be the same as another internship in the internship data.
+     *
+     * @return the edited internships.
+     */
+    public List<Internship> setInternships(Predicate<Internship> predicate, UnaryOperator<Internship> editor) {
+        return internshipList.replaceIf(predicate, editor);
+    }
+
+    /**
+     * Starts a batch of changes to the internship list, which are applied as a single change when the batch is
+     * committed.
+     *
+     * @see UniqueInternshipList#batch()
+     */
+    public UniqueInternshipList.Batch batch() {
+        return internshipList.batch();
+    }
+
+    /**
+     * Returns an immutable snapshot of the current internships, for use with {@link #restoreSnapshot}.
+     */
+    public PersistentVector<Internship> getSnapshot() {
+        return internshipList.getSnapshot();
+    }
+
+    /**
+     * Replaces the contents of the internship list with a previously taken {@code snapshot}.
+     */
+    public void restoreSnapshot(PersistentVector<Internship> snapshot) {
+        internshipList.restoreSnapshot(snapshot);
+    }
+
+    /**
+     * Returns a column store of the current internships, for queries that scan one or two fields of every
+     * internship. The store is built when it is first asked for, and follows the changes to the list after that.
+     */
+    public InternshipColumnStore getColumnStore() {
+        if (columnStore == null) {
+            columnStore = new InternshipColumnStore(internshipList.asUnmodifiableObservableList());
+        }
+        return columnStore;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -0,0 +1,157 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.internship.Internship;
+import seedu.address.model.util.PersistentVector;
+
+/**
+ * Keeps the committed versions of the internship data so that changes can be undone and redone.
+ * Each version is a {@code PersistentVector} snapshot that shares structure with its neighbours,
+ * so committing a version after a single-internship change only costs O(log n) memory.
+ * The versions are kept in a ring buffer, so dropping the oldest version once the history is full takes
+ * constant time.
+ */
+public class InternshipDataHistory {
+
+    public static final int DEFAULT_MAX_HISTORY_SIZE = 10000;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int maxHistorySize;
+    // The versions from oldest to newest are at states[first], states[first + 1], ..., wrapping around the array.
+    private PersistentVector<Internship>[] states;
+    private int first;
+    private int size;
+    private int currentStatePointer;
+
+    /**
+     * Creates an {@code InternshipDataHistory} whose only version is {@code initialState}.
+     */
+    public InternshipDataHistory(PersistentVector<Internship> initialState) {
+        this(initialState, DEFAULT_MAX_HISTORY_SIZE);
+    }
+
+    /**
+     * Creates an {@code InternshipDataHistory} that keeps at most {@code maxHistorySize} versions.
+     */
+    public InternshipDataHistory(PersistentVector<Internship> initialState, int maxHistorySize) {
+        requireNonNull(initialState);
+        assert maxHistorySize > 0;
+        this.maxHistorySize = maxHistorySize;
+        reset(initialState);
+    }
+
+    /**
+     * Discards all versions and starts over with {@code initialState}.
+     */
+    public void reset(PersistentVector<Internship> initialState) {
+        requireNonNull(initialState);
+        states = newStates(Math.min(INITIAL_CAPACITY, maxHistorySize));
+        states[0] = initialState;
+        first = 0;
+        size = 1;
+        currentStatePointer = 0;
+    }
+
+    /**
+     * Records {@code state} as the newest version, discarding any versions that were undone.
+     * Nothing is recorded if {@code state} is the current version.
+     *
+     * @return true if a new version was recorded.
+     */
+    public boolean commit(PersistentVector<Internship> state) {
+        requireNonNull(state);
+        if (state == getCurrentState()) {
+            return false;
+        }
+
+        for (int i = currentStatePointer + 1; i < size; i++) {
+            states[toArrayIndex(i)] = null;
+        }
+        size = currentStatePointer + 1;
+
+        if (size == maxHistorySize) {
+            states[first] = null;
+            first = toArrayIndex(1);
+            size--;
+            currentStatePointer--;
+        } else if (size == states.length) {
+            grow();
+        }
+
+        states[toArrayIndex(size)] = state;
+        size++;
+        currentStatePointer++;
+        return true;
+    }
+
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    public boolean canRedo() {
+        return currentStatePointer < size - 1;
+    }
+
+    /**
+     * Moves back to the previous version and returns it.
+     *
+     * @throws IllegalStateException if there is no version to undo to.
+     */
+    public PersistentVector<Internship> undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No version to undo to.");
+        }
+        currentStatePointer--;
+        return getCurrentState();
+    }
+
+    /**
+     * Moves forward to the next version and returns it.
+     *
+     * @throws IllegalStateException if there is no version to redo to.
+     */
+    public PersistentVector<Internship> redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No version to redo to.");
+        }
+        currentStatePointer++;
+        return getCurrentState();
+    }
+
+    public PersistentVector<Internship> getCurrentState() {
+        return states[toArrayIndex(currentStatePointer)];
+    }
+
+    /**
+     * Returns the number of versions currently kept.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index in {@code states} of the version that is {@code offset} versions after the oldest one.
+     */
+    private int toArrayIndex(int offset) {
+        return (first + offset) % states.length;
+    }
+
+    /**
+     * Doubles the capacity of {@code states}, up to {@code maxHistorySize}, moving the oldest version to the start.
+     */
+    private void grow() {
+        PersistentVector<Internship>[] grown = newStates(Math.min(states.length * 2, maxHistorySize));
+        for (int i = 0; i < size; i++) {
+            grown[i] = states[toArrayIndex(i)];
+        }
+        states = grown;
+        first = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PersistentVector<Internship>[] newStates(int capacity) {
+        return (PersistentVector<Internship>[]) new PersistentVector<?>[capacity];
+    }
+}
@@ -1,12 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.util.PersistentVector;
 
 /**
  * The API of the InternshipModel component.
@@ -15,6 +21,9 @@ public interface InternshipModel {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Internship> PREDICATE_SHOW_ALL_INTERNSHIPS = unused -> true;
 
+    /** The number of internships shown on each page of the filtered internship list. */
+    int PAGE_SIZE = 50;
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -50,9 +59,21 @@ public interface InternshipModel {
      */
     void setInternshipData(ReadOnlyInternshipData internshipData);
 
+    /**
+     * Replaces current internship data with the internship data in {@code internshipData} and starts the undo history
+     * over from it, e.g. once the data file has been read at startup.
+     */
+    void loadInternshipData(ReadOnlyInternshipData internshipData);
+
     /** Returns the InternshipData */
     ReadOnlyInternshipData getInternshipData();
 
+    /**
+     * Returns an immutable snapshot of the internships in the internship data, in list order.
+     * The snapshot is not affected by later changes and can be iterated without copying it.
+     */
+    PersistentVector<Internship> getInternshipSnapshot();
+
     /**
      * Returns true if an internship with the same identity as {@code internship} exists in the internship list.
      */
@@ -76,6 +97,69 @@ public interface InternshipModel {
      */
     void setInternship(Internship target, Internship editedInternship);
 
+    /**
+     * Deletes every internship that matches {@code predicate} in a single pass over the internship data.
+     *
+     * @return the deleted internships.
+     */
+    List<Internship> deleteInternships(Predicate<Internship> predicate);
+
+    /**
+     * Replaces every internship that matches {@code predicate} with the result of applying {@code editor} to it,
+     * in a single pass over the internship data.
+     * The edited internships must not be the same as another internship in the internship data.
+     *
+     * @return the edited internships.
+     */
+    List<Internship> editInternships(Predicate<Internship> predicate, UnaryOperator<Internship> editor);
+
+    /**
+     * Records the current internship data as a new version in the undo history.
+     * Does nothing if the internship data has not changed since the last recorded version.
+     */
+    void commitInternshipData();
+
+    /**
+     * Returns true if there is a previous version of the internship data to restore.
+     */
+    boolean canUndoInternshipData();
+
+    /**
+     * Returns true if there is an undone version of the internship data to restore.
+     */
+    boolean canRedoInternshipData();
+
+    /**
+     * Restores the previous version of the internship data.
+     * There must be a version to undo to.
+     */
+    void undoInternshipData();
+
+    /**
+     * Restores the most recently undone version of the internship data.
+     * There must be a version to redo to.
+     */
+    void redoInternshipData();
+
+    /**
+     * Returns up to {@code limit} distinct values of {@code field} in the internship data that start with
+     * {@code prefix}, ignoring case, in alphabetical order. This may be called from any thread.
+     */
+    List<String> getValueSuggestions(InternshipValueIndex.Field field, String prefix, int limit);
+
+    /**
+     * Returns the tasks in the internship data that are due from {@code start} to {@code end}, both inclusive,
+     * in order of their deadlines.
+     * @throws IllegalArgumentException if {@code end} is before {@code start}.
+     */
+    List<DeadlineIndex.DueTask> getTasksDue(LocalDate start, LocalDate end);
+
+    /**
+     * Returns a column store of the internships in the internship data, for counting and filtering internships by
+     * one or two fields.
+     */
+    InternshipColumnStore getInternshipColumnStore();
+
     /** Returns an unmodifiable view of the filtered internship list */
     ObservableList<Internship> getFilteredInternshipList();
 
@@ -85,20 +169,68 @@ public interface InternshipModel {
      */
     void updateFilteredInternshipList(Predicate<Internship> predicate);
 
+    /**
+     * Returns the predicate that the filtered internship list is currently filtered by.
+     */
+    Predicate<Internship> getFilteredInternshipPredicate();
+
+    /**
+     * Filters the filtered internship list to the internships that match {@code predicate}, for a preview of a
+     * filter that is still being typed. If {@code isRefinement} is true, only the internships already in the filtered
+     * list are tested, which is only correct if every internship that matches {@code predicate} is in it.
+     * Unlike {@link #updateFilteredInternshipList}, the list keeps the internships that matched at the time of the
+     * call, so it is not updated for internships that are added or edited later.
+     *
+     * @return false, without changing the filtered list, if {@code isCancelled} returns true before every internship
+     *     has been tested.
+     */
+    boolean previewFilteredInternshipList(Predicate<Internship> predicate, boolean isRefinement,
+            BooleanSupplier isCancelled);
+
     /**
      * Sorts the filtered internship list according to the given {@code comparator}.
      * @throws NullPointerException if {@code comparator} is null.
      */
     void sortFilteredInternshipList(Comparator<Internship> comparator);
+
     /**
-     * Sets the selected {@code internship} in the model selected internship.
+     * Selects {@code internship}, or clears the selection if it is null.
      * This represents the internship that the user is currently viewing in the detailed internship window.
+     * The selection follows the internship when it is edited through this model, and is cleared when it is deleted.
      */
     void setSelectedInternship(Internship internship);
 
     /**
-     * Gets the model's selected internship, which represents the internship that the user is currently viewing in the
-     * detailed internship window.
+     * Returns the model's selected internship, or null if no internship is selected.
+     */
+    Internship getSelectedInternship();
+
+    /**
+     * Returns the property holding the model's selected internship, which is null if no internship is selected.
+     */
+    ReadOnlyObjectProperty<Internship> selectedInternshipProperty();
+
+    /**
+     * Returns an unmodifiable view of the internships on the current page of the filtered internship list.
+     * Only the internships on the page are held by the view, so it changes in time proportional to
+     * {@link #PAGE_SIZE} rather than to the number of filtered internships.
+     */
+    ObservableList<Internship> getInternshipPage();
+
+    /**
+     * Returns the zero-based index of the current page of the filtered internship list.
+     * The page is reset to the first page whenever the filter or sort order changes.
+     */
+    int getPageIndex();
+
+    /**
+     * Returns the number of pages in the filtered internship list, which is at least 1.
+     */
+    int getPageCount();
+
+    /**
+     * Shows the page at the zero-based {@code pageIndex} of the filtered internship list.
+     * @throws IndexOutOfBoundsException if {@code pageIndex} is not less than {@link #getPageCount()}.
      */
-    ObservableList<Internship> getSelectedInternship();
+    void setPageIndex(int pageIndex);
 }
@@ -4,16 +4,30 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.CommandPhase;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.util.PersistentVector;
 
 /**
  * Represents the in-memory model of the Internship data.
@@ -21,14 +35,23 @@ import seedu.address.model.internship.Internship;
 public class InternshipModelManager implements InternshipModel {
     private static final Logger logger = LogsCenter.getLogger(InternshipModelManager.class);
 
+    // The number of internships tested between checks for the cancellation of a preview.
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
     private final InternshipData internshipData;
     private final InternshipUserPrefs userPrefs;
+    private final InternshipDataHistory history;
+    private final InternshipValueIndex valueIndex;
+    private final DeadlineIndex deadlineIndex;
     private FilteredList<Internship> filteredInternships;
     private SortedList<Internship> sortedInternships;
+    private Predicate<Internship> filteredInternshipPredicate = PREDICATE_SHOW_ALL_INTERNSHIPS;
+    private final ObservableList<Internship> internshipPage = FXCollections.observableArrayList();
+    private int pageIndex;
 
-    // The internship that is currently selected. Even though it is a list, it should only ever show one internship.
-    // It is set as a FilteredList, so it can work with the existing UI components.
-    private FilteredList<Internship> selectedInternship;
+    // The internship that is currently selected, tracked by identity. It follows the internship across edits made
+    // through this model and is cleared when the internship is deleted.
+    private final ReadOnlyObjectWrapper<Internship> selectedInternship = new ReadOnlyObjectWrapper<>();
 
     /**
      * Initializes a InternshipModelManager with the given internshipData and userPrefs.
@@ -40,9 +63,13 @@ public class InternshipModelManager implements InternshipModel {
 
         this.internshipData = new InternshipData(internshipData);
         this.userPrefs = new InternshipUserPrefs(userPrefs);
+        history = new InternshipDataHistory(this.internshipData.getSnapshot());
+        valueIndex = new InternshipValueIndex(this.internshipData.getInternshipList());
+        deadlineIndex = new DeadlineIndex(this.internshipData.getInternshipList());
         filteredInternships = new FilteredList<>(this.internshipData.getInternshipList());
         sortedInternships = new SortedList<>(filteredInternships);
-        selectedInternship = new FilteredList<>(filteredInternships);
+        sortedInternships.addListener((ListChangeListener<Internship>) change -> refreshInternshipPage());
+        refreshInternshipPage();
     }
 
     public InternshipModelManager() {
@@ -85,6 +112,13 @@ public class InternshipModelManager implements InternshipModel {
     @Override
     public void setInternshipData(ReadOnlyInternshipData internshipData) {
         this.internshipData.resetData(internshipData);
+        reselectInternship();
+    }
+
+    @Override
+    public void loadInternshipData(ReadOnlyInternshipData internshipData) {
+        setInternshipData(internshipData);
+        history.reset(this.internshipData.getSnapshot());
     }
 
     @Override
@@ -92,6 +126,11 @@ public class InternshipModelManager implements InternshipModel {
         return internshipData;
     }
 
+    @Override
+    public PersistentVector<Internship> getInternshipSnapshot() {
+        return internshipData.getSnapshot();
+    }
+
     @Override
     public boolean hasInternship(Internship internship) {
         requireNonNull(internship);
@@ -101,6 +140,9 @@ public class InternshipModelManager implements InternshipModel {
     @Override
     public void deleteInternship(Internship target) {
         internshipData.removeInternship(target);
+        if (target.equals(selectedInternship.get())) {
+            selectedInternship.set(null);
+        }
     }
 
     @Override
@@ -113,6 +155,81 @@ public class InternshipModelManager implements InternshipModel {
     public void setInternship(Internship target, Internship editedInternship) {
         requireAllNonNull(target, editedInternship);
         internshipData.setInternship(target, editedInternship);
+        if (target.equals(selectedInternship.get())) {
+            selectedInternship.set(editedInternship);
+        }
+    }
+
+    @Override
+    public List<Internship> deleteInternships(Predicate<Internship> predicate) {
+        requireNonNull(predicate);
+        List<Internship> deletedInternships = internshipData.removeInternships(predicate);
+        if (selectedInternship.get() != null && predicate.test(selectedInternship.get())) {
+            selectedInternship.set(null);
+        }
+        return deletedInternships;
+    }
+
+    @Override
+    public List<Internship> editInternships(Predicate<Internship> predicate, UnaryOperator<Internship> editor) {
+        requireAllNonNull(predicate, editor);
+        Internship selected = selectedInternship.get();
+        Internship[] editedSelected = {selected};
+        List<Internship> editedInternships = internshipData.setInternships(predicate, internship -> {
+            Internship editedInternship = editor.apply(internship);
+            if (internship == selected) {
+                editedSelected[0] = editedInternship;
+            }
+            return editedInternship;
+        });
+        selectedInternship.set(editedSelected[0]);
+        return editedInternships;
+    }
+
+    @Override
+    public void commitInternshipData() {
+        if (history.commit(internshipData.getSnapshot())) {
+            logger.fine("Committed internship data version, history size: " + history.size());
+        }
+    }
+
+    @Override
+    public boolean canUndoInternshipData() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoInternshipData() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoInternshipData() {
+        internshipData.restoreSnapshot(history.undo());
+        reselectInternship();
+        updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
+    }
+
+    @Override
+    public void redoInternshipData() {
+        internshipData.restoreSnapshot(history.redo());
+        reselectInternship();
+        updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
+    }
+
+    @Override
+    public List<String> getValueSuggestions(InternshipValueIndex.Field field, String prefix, int limit) {
+        return valueIndex.getValuesStartingWith(field, prefix, limit);
+    }
+
+    @Override
+    public List<DeadlineIndex.DueTask> getTasksDue(LocalDate start, LocalDate end) {
+        return deadlineIndex.getTasksDue(start, end);
+    }
+
+    @Override
+    public InternshipColumnStore getInternshipColumnStore() {
+        return internshipData.getColumnStore();
     }
 
     /**
@@ -130,22 +247,127 @@ public class InternshipModelManager implements InternshipModel {
      */
     public void sortFilteredInternshipList(Comparator<Internship> comparator) {
         requireNonNull(comparator);
+        long start = System.nanoTime();
+        pageIndex = 0;
         sortedInternships.setComparator(comparator);
+        refreshInternshipPage();
+        CommandMetrics.getInstance().recordNested(CommandPhase.FILTER_SORT, System.nanoTime() - start);
     }
+
     @Override
     public void setSelectedInternship(Internship internship) {
-        selectedInternship.setPredicate(internship::equals);
+        selectedInternship.set(internship);
     }
 
     @Override
-    public ObservableList<Internship> getSelectedInternship() {
-        return selectedInternship;
+    public Internship getSelectedInternship() {
+        return selectedInternship.get();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<Internship> selectedInternshipProperty() {
+        return selectedInternship.getReadOnlyProperty();
+    }
+
+    /**
+     * Points the selection at the internship in the current data that is the same internship as the selected one,
+     * or clears it if there is none. Used after the whole data set is replaced, e.g. by an undo.
+     */
+    private void reselectInternship() {
+        Internship selected = selectedInternship.get();
+        if (selected == null) {
+            return;
+        }
+        Internship reselected = null;
+        for (Internship internship : internshipData.getInternshipList()) {
+            if (internship.isSameInternship(selected)) {
+                reselected = internship;
+                break;
+            }
+        }
+        selectedInternship.set(reselected);
     }
 
     @Override
     public void updateFilteredInternshipList(Predicate<Internship> predicate) {
         requireNonNull(predicate);
+        long start = System.nanoTime();
+        pageIndex = 0;
+        filteredInternshipPredicate = predicate;
         filteredInternships.setPredicate(predicate);
+        refreshInternshipPage();
+        CommandMetrics.getInstance().recordNested(CommandPhase.FILTER_SORT, System.nanoTime() - start);
+    }
+
+    @Override
+    public Predicate<Internship> getFilteredInternshipPredicate() {
+        return filteredInternshipPredicate;
+    }
+
+    @Override
+    public boolean previewFilteredInternshipList(Predicate<Internship> predicate, boolean isRefinement,
+            BooleanSupplier isCancelled) {
+        requireAllNonNull(predicate, isCancelled);
+        List<Internship> candidates = isRefinement ? filteredInternships : internshipData.getInternshipList();
+        Set<Internship> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && isCancelled.getAsBoolean()) {
+                return false;
+            }
+            Internship candidate = candidates.get(i);
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+
+        // Looking the internships up by identity is much cheaper than testing them against the predicate again.
+        pageIndex = 0;
+        filteredInternshipPredicate = matches::contains;
+        filteredInternships.setPredicate(filteredInternshipPredicate);
+        refreshInternshipPage();
+        return true;
+    }
+
+    @Override
+    public ObservableList<Internship> getInternshipPage() {
+        return FXCollections.unmodifiableObservableList(internshipPage);
+    }
+
+    @Override
+    public int getPageIndex() {
+        return pageIndex;
+    }
+
+    @Override
+    public int getPageCount() {
+        return Math.max(1, (sortedInternships.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+
+    @Override
+    public void setPageIndex(int pageIndex) {
+        if (pageIndex < 0 || pageIndex >= getPageCount()) {
+            throw new IndexOutOfBoundsException("Page " + pageIndex + " of " + getPageCount());
+        }
+        this.pageIndex = pageIndex;
+        refreshInternshipPage();
+    }
+
+    /**
+     * Updates the internship page to hold the internships on the current page, moving to the last page if the
+     * current page no longer exists. The page is only changed if it holds different internship objects.
+     */
+    private void refreshInternshipPage() {
+        pageIndex = Math.min(pageIndex, getPageCount() - 1);
+        int from = pageIndex * PAGE_SIZE;
+        int to = Math.min(from + PAGE_SIZE, sortedInternships.size());
+
+        boolean isUnchanged = internshipPage.size() == to - from;
+        for (int i = from; i < to && isUnchanged; i++) {
+            isUnchanged = internshipPage.get(i - from) == sortedInternships.get(i);
+        }
+        if (!isUnchanged) {
+            internshipPage.setAll(sortedInternships.subList(from, to));
+        }
     }
 
     @Override
@@ -162,7 +384,8 @@ public class InternshipModelManager implements InternshipModel {
         InternshipModelManager otherModelManager = (InternshipModelManager) other;
         return internshipData.equals(otherModelManager.internshipData)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredInternships.equals(otherModelManager.filteredInternships);
+                && filteredInternships.equals(otherModelManager.filteredInternships)
+                && pageIndex == otherModelManager.pageIndex;
     }
 
 }
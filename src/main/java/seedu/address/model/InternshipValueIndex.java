@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.internship.Internship;
+
+/**
+ * Keeps the distinct values of some fields of a list of internships in sorted order, so that the values starting with
+ * a given prefix can be found without going through every internship.
+ * The index follows the changes to the list, and only the internships added to or removed from the list are indexed
+ * or unindexed. Values are matched case-insensitively, and values that differ only in case are kept once.
+ * The index is updated on the thread that changes the list, but may be read from any thread.
+ */
+public class InternshipValueIndex {
+
+    /**
+     * A field of an internship whose values are indexed.
+     */
+    public enum Field {
+        COMPANY_NAME(internship -> internship.getCompanyName().companyName),
+        ROLE(internship -> internship.getRole().role),
+        CONTACT_NAME(internship -> internship.getContactName().contactName);
+
+        private final Function<Internship, String> getter;
+
+        Field(Function<Internship, String> getter) {
+            this.getter = getter;
+        }
+    }
+
+    private final Map<Field, ConcurrentNavigableMap<String, IndexedValue>> valuesByField = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an index of {@code internships} that stays up to date as the list changes.
+     */
+    public InternshipValueIndex(ObservableList<Internship> internships) {
+        requireNonNull(internships);
+        for (Field field : Field.values()) {
+            valuesByField.put(field, new ConcurrentSkipListMap<>());
+        }
+        internships.forEach(this::add);
+        internships.addListener((ListChangeListener<Internship>) this::handleChange);
+    }
+
+    private void handleChange(ListChangeListener.Change<? extends Internship> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Internship internship) {
+        for (Field field : Field.values()) {
+            String value = field.getter.apply(internship);
+            valuesByField.get(field).merge(toKey(value), new IndexedValue(value, 1), (indexed, unused) ->
+                    new IndexedValue(indexed.value, indexed.count + 1));
+        }
+    }
+
+    private void remove(Internship internship) {
+        for (Field field : Field.values()) {
+            String value = field.getter.apply(internship);
+            valuesByField.get(field).computeIfPresent(toKey(value), (unused, indexed) ->
+                    indexed.count == 1 ? null : new IndexedValue(indexed.value, indexed.count - 1));
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} distinct values of {@code field} that start with {@code prefix}, ignoring case,
+     * in alphabetical order.
+     */
+    public List<String> getValuesStartingWith(Field field, String prefix, int limit) {
+        requireAllNonNull(field, prefix);
+        String keyPrefix = toKey(prefix);
+        List<String> values = new ArrayList<>();
+        for (Map.Entry<String, IndexedValue> entry : valuesByField.get(field).tailMap(keyPrefix).entrySet()) {
+            if (values.size() >= limit || !entry.getKey().startsWith(keyPrefix)) {
+                break;
+            }
+            values.add(entry.getValue().value);
+        }
+        return values;
+    }
+
+    private static String toKey(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A value in the index, with the number of internships that have it.
+     */
+    private static class IndexedValue {
+        private final String value;
+        private final int count;
+
+        IndexedValue(String value, int count) {
+            this.value = value;
+            this.count = count;
+        }
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+
 /**
  * Represents an Internship's application status in the internship data.
  */
@@ -24,6 +28,15 @@ public class ApplicationStatus {
 
     }
 
+    // One instance per constant, shared by every internship with that status.
+    private static final Map<StatusEnum, ApplicationStatus> CANONICAL_INSTANCES = new EnumMap<>(StatusEnum.class);
+
+    static {
+        for (StatusEnum value : StatusEnum.values()) {
+            CANONICAL_INSTANCES.put(value, new ApplicationStatus(value));
+        }
+    }
+
     private final StatusEnum applicationStatus;
 
     /**
@@ -37,6 +50,30 @@ public class ApplicationStatus {
         this.applicationStatus = StatusEnum.valueOf(applicationStatus.toUpperCase());
     }
 
+    private ApplicationStatus(StatusEnum applicationStatus) {
+        this.applicationStatus = applicationStatus;
+    }
+
+    /**
+     * Returns the canonical {@code ApplicationStatus} of {@code applicationStatus}, shared by every internship
+     * with that status.
+     *
+     * @param applicationStatus A valid application status.
+     */
+    public static ApplicationStatus of(String applicationStatus) {
+        requireNonNull(applicationStatus);
+        checkArgument(isValidApplicationStatus(applicationStatus), MESSAGE_CONSTRAINTS);
+        return of(StatusEnum.valueOf(applicationStatus.toUpperCase()));
+    }
+
+    /**
+     * Returns the canonical {@code ApplicationStatus} of {@code applicationStatus}.
+     */
+    public static ApplicationStatus of(StatusEnum applicationStatus) {
+        requireNonNull(applicationStatus);
+        return CANONICAL_INSTANCES.get(applicationStatus);
+    }
+
     /**
      * Returns true if a given string is a valid ApplicationStatus.
      */
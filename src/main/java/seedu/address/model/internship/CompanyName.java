@@ -3,6 +3,8 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.Interner;
+
 /**
  * Represents a Company's name in the internship data.
  * Guarantees: immutable; is valid as declared in {@link #isValidCompanyName(String)}
@@ -16,6 +18,8 @@ public class CompanyName {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<CompanyName> INTERNER = new Interner<>();
+
     public final String companyName;
 
     /**
@@ -29,6 +33,16 @@ public class CompanyName {
         this.companyName = companyName;
     }
 
+    /**
+     * Returns the canonical {@code CompanyName} of {@code companyName}, which is shared by internships with the
+     * same company.
+     *
+     * @param companyName A valid companyName.
+     */
+    public static CompanyName of(String companyName) {
+        return INTERNER.intern(new CompanyName(companyName));
+    }
+
     /**
      * Returns true if a given string is a valid companyName.
      */
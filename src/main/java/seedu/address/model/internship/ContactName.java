@@ -3,6 +3,8 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.Interner;
+
 /**
  * Represents a Company Contact's name in the internship data.
  * Guarantees: immutable; is valid as declared in {@link #isValidContactName(String)}
@@ -18,6 +20,8 @@ public class ContactName {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<ContactName> INTERNER = new Interner<>();
+
     public final String contactName;
 
     /**
@@ -31,6 +35,16 @@ public class ContactName {
         this.contactName = contactName;
     }
 
+    /**
+     * Returns the canonical {@code ContactName} of {@code contactName}, which is shared by internships with the
+     * same contact.
+     *
+     * @param contactName A valid contactName.
+     */
+    public static ContactName of(String contactName) {
+        return INTERNER.intern(new ContactName(contactName));
+    }
+
     /**
      * Returns true if a given string is a valid contactName.
      */
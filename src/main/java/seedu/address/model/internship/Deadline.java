@@ -3,14 +3,17 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 /**
  * Represents an Internship's task's deadline in the internship data.
+ * The date is parsed once when the deadline is created and kept as an epoch day, so deadlines can be compared and
+ * ordered without parsing the deadline string again.
  */
-public class Deadline {
+public class Deadline implements Comparable<Deadline> {
     public static final String MESSAGE_CONSTRAINTS =
             "Deadline must be in the form DD/MM/YYYY, and be a valid date.";
 
@@ -21,6 +24,11 @@ public class Deadline {
 
     public final String deadline;
 
+    /**
+     * The number of days from 01/01/1970 to the deadline.
+     */
+    private final int epochDay;
+
     /**
      * Constructs a {@code Deadline}.
      *
@@ -28,20 +36,85 @@ public class Deadline {
      */
     public Deadline(String deadline) {
         requireNonNull(deadline);
-        checkArgument(isValidDeadline(deadline), MESSAGE_CONSTRAINTS);
+        LocalDate date = parse(deadline);
+        checkArgument(date != null, MESSAGE_CONSTRAINTS);
         this.deadline = deadline;
+        this.epochDay = Math.toIntExact(date.toEpochDay());
+    }
+
+    private Deadline(String deadline, int epochDay) {
+        this.deadline = deadline;
+        this.epochDay = epochDay;
     }
 
     /**
-     * Returns true if a given string is a valid role.
+     * Returns true if a given string is a valid deadline.
      */
     public static boolean isValidDeadline(String test) {
+        return parse(test) != null;
+    }
+
+    /**
+     * Returns the date that {@code deadline} is in the date format, or null if it is not a valid date.
+     */
+    private static LocalDate parse(String deadline) {
         try {
-            LocalDate date = LocalDate.parse(test, formatter);
+            return LocalDate.parse(deadline, formatter);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
-        return true;
+    }
+
+    /**
+     * Returns a {@code Deadline} on the given {@code date}.
+     */
+    public static Deadline fromDate(LocalDate date) {
+        requireNonNull(date);
+        return new Deadline(date.format(formatter), Math.toIntExact(date.toEpochDay()));
+    }
+
+    /**
+     * Returns a {@code Deadline} read from storage, where it was saved with its {@code storedEpochDay}.
+     * The stored epoch day is used without parsing {@code deadline} if it is the same date, and is ignored if it is
+     * missing or is a different date, e.g. because the deadline was edited by hand.
+     *
+     * @throws IllegalArgumentException if {@code deadline} is not a valid deadline.
+     */
+    static Deadline fromStorage(String deadline, String storedEpochDay) {
+        requireNonNull(deadline);
+        if (storedEpochDay != null) {
+            try {
+                int epochDay = Integer.parseInt(storedEpochDay);
+                if (LocalDate.ofEpochDay(epochDay).format(formatter).equals(deadline)) {
+                    return new Deadline(deadline, epochDay);
+                }
+            } catch (DateTimeException | NumberFormatException e) {
+                // the stored epoch day is unusable, so the deadline is parsed instead
+            }
+        }
+        return new Deadline(deadline);
+    }
+
+    /**
+     * Returns the number of days from 01/01/1970 to the deadline.
+     */
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the date of the deadline.
+     */
+    public LocalDate getDate() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Orders deadlines from the earliest date to the latest.
+     */
+    @Override
+    public int compareTo(Deadline other) {
+        return Integer.compare(epochDay, other.epochDay);
     }
 
     /**
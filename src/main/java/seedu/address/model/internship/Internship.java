@@ -3,6 +3,7 @@ package seedu.address.model.internship;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -11,6 +12,9 @@ import seedu.address.commons.util.ToStringBuilder;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Internship {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     // Identity fields
     private final CompanyName companyName;
     private final Location location;
@@ -25,6 +29,10 @@ public class Internship {
     private final Remark remark;
     private final TaskList taskList;
 
+    // Computed once, as the fields never change.
+    private final int hashCode;
+    private final long identityKey;
+
     /**
      * Every field except for remark must be present and not null.
      */
@@ -42,6 +50,24 @@ public class Internship {
         this.role = role;
         this.remark = remark;
         this.taskList = taskList;
+        this.hashCode = Objects.hash(companyName, location, role, description);
+        this.identityKey = computeIdentityKey(companyName.companyName, contactName.contactName, contactEmail.value,
+                contactNumber.value, applicationStatus.getStatus().name(), description.description);
+    }
+
+    /**
+     * Returns a 64-bit FNV-1a hash of {@code identityFields}. The length of each field is hashed after it, so that
+     * moving characters from one field to the next changes the hash.
+     */
+    private static long computeIdentityKey(String... identityFields) {
+        long key = FNV_OFFSET_BASIS;
+        for (String field : identityFields) {
+            for (int i = 0; i < field.length(); i++) {
+                key = (key ^ field.charAt(i)) * FNV_PRIME;
+            }
+            key = (key ^ field.length()) * FNV_PRIME;
+        }
+        return key;
     }
 
     public CompanyName getCompanyName() {
@@ -88,12 +114,30 @@ public class Internship {
         return taskList.getTaskListSize();
     }
 
-    public void addTask(Task task) {
-        taskList.addTask(task);
+    /**
+     * Returns a copy of this internship with its task list replaced by {@code taskList}.
+     * This internship is left unchanged.
+     */
+    public Internship withTaskList(TaskList taskList) {
+        return new Internship(companyName, contactName, contactEmail, contactNumber, location, applicationStatus,
+                description, role, remark, taskList);
+    }
+
+    /**
+     * Returns the earliest deadline of the tasks of this internship, or an empty {@code Optional} if no task has a
+     * deadline.
+     */
+    public Optional<Deadline> getEarliestDeadline() {
+        return taskList.getEarliestDeadline();
     }
 
-    public void deleteTask(int index) {
-        taskList.deleteTask(index);
+    /**
+     * Returns a 64-bit hash of the fields compared by {@link #isSameInternship(Internship)}.
+     * Internships that are the same internship always have the same identity key, so internships with different
+     * identity keys can be told apart without comparing their fields.
+     */
+    public long getIdentityKey() {
+        return identityKey;
     }
 
     /**
@@ -106,6 +150,7 @@ public class Internship {
         }
 
         return otherInternship != null
+                && identityKey == otherInternship.identityKey
                 && companyName.equals(otherInternship.companyName)
                 && contactName.equals(otherInternship.contactName)
                 && contactEmail.equals(otherInternship.contactEmail)
@@ -130,7 +175,9 @@ public class Internship {
         }
 
         Internship otherInternship = (Internship) other;
-        return companyName.equals(otherInternship.companyName)
+        return hashCode == otherInternship.hashCode
+                && identityKey == otherInternship.identityKey
+                && companyName.equals(otherInternship.companyName)
                 && contactName.equals(otherInternship.contactName)
                 && contactEmail.equals(otherInternship.contactEmail)
                 && contactNumber.equals(otherInternship.contactNumber)
@@ -142,8 +189,7 @@ public class Internship {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(companyName, location, role, description);
+        return hashCode;
     }
 
     @Override
@@ -1,6 +1,9 @@
 package seedu.address.model.internship;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -78,7 +81,7 @@ public class InternshipContainsKeywordsPredicate implements Predicate<Internship
                 .reduce((a, b) -> a || b).orElse(isMatchAll);
         boolean foundInRemark = remarkKeywords.stream()
                 .map(set -> set.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
-                        internship.getRemark().value, keyword)))
+                        internship.getRemark().toString(), keyword)))
                 .reduce((a, b) -> a || b).orElse(isMatchAll);
         if (isMatchAll) {
             return foundInCompanyName && foundInContactName && foundInLocation
@@ -89,6 +92,38 @@ public class InternshipContainsKeywordsPredicate implements Predicate<Internship
         }
     }
 
+    /**
+     * Returns true if every internship that matches this predicate also matches {@code other}, judging by the
+     * keywords of both predicates alone. This is the case if this predicate only narrows {@code other} down, e.g. by
+     * adding a field in {@code withall} mode or by dropping a keyword in {@code withany} mode.
+     */
+    public boolean isRefinementOf(InternshipContainsKeywordsPredicate other) {
+        requireNonNull(other);
+        if (isMatchAll != other.isMatchAll) {
+            return false;
+        }
+
+        List<Optional<Set<String>>> keywords = getAllKeywords();
+        List<Optional<Set<String>>> otherKeywords = other.getAllKeywords();
+        for (int i = 0; i < keywords.size(); i++) {
+            // In withall mode, every field searched by other must be searched here with some of its keywords.
+            // In withany mode, every field searched here must be searched by other with more keywords.
+            Optional<Set<String>> narrower = keywords.get(i);
+            Optional<Set<String>> wider = otherKeywords.get(i);
+            Optional<Set<String>> required = isMatchAll ? wider : narrower;
+            if (required.isPresent() && !(narrower.isPresent() && wider.isPresent()
+                    && wider.get().containsAll(narrower.get()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Optional<Set<String>>> getAllKeywords() {
+        return List.of(companyNameKeywords, contactNameKeywords, locationKeywords, statusKeywords,
+                descriptionKeywords, roleKeywords, remarkKeywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,6 +3,10 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+
 /**
  * Represents an Internship's location in the internship data.
  */
@@ -21,6 +25,15 @@ public class Location {
         UNKNOWN
     }
 
+    // One instance per constant, shared by every internship with that location.
+    private static final Map<LocationEnum, Location> CANONICAL_INSTANCES = new EnumMap<>(LocationEnum.class);
+
+    static {
+        for (LocationEnum value : LocationEnum.values()) {
+            CANONICAL_INSTANCES.put(value, new Location(value));
+        }
+    }
+
     private final LocationEnum location;
 
     /**
@@ -34,6 +47,30 @@ public class Location {
         this.location = Location.LocationEnum.valueOf(location.toUpperCase());
     }
 
+    private Location(LocationEnum location) {
+        this.location = location;
+    }
+
+    /**
+     * Returns the canonical {@code Location} of {@code location}, shared by every internship
+     * with that location.
+     *
+     * @param location A valid location.
+     */
+    public static Location of(String location) {
+        requireNonNull(location);
+        checkArgument(isValidLocation(location), MESSAGE_CONSTRAINTS);
+        return of(LocationEnum.valueOf(location.toUpperCase()));
+    }
+
+    /**
+     * Returns the canonical {@code Location} of {@code location}.
+     */
+    public static Location of(LocationEnum location) {
+        requireNonNull(location);
+        return CANONICAL_INSTANCES.get(location);
+    }
+
     /**
      * Returns true if a given string is a valid ApplicationStatus.
      */
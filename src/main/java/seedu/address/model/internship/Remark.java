@@ -1,13 +1,25 @@
 package seedu.address.model.internship;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Supplier;
 
 /**
  * Represents an Internship's remarks in the internship data.
  * Guarantees: immutable; is always valid
+ * A remark is either kept in memory, or is lazy and only keeps a short preview and a way to load its text, so that long
+ * remarks do not need to stay in memory when only their preview is displayed.
  */
 public class Remark {
-    public final String value;
+    /** The maximum number of characters of a remark shown in its preview. */
+    public static final int PREVIEW_LENGTH = 100;
+
+    // The text of the remark, or null if the remark is lazy and its text is loaded by the loader.
+    private final String value;
+    private final Supplier<String> loader;
+    private final String preview;
+    private final int hashCode;
 
     /**
      * Constructs an {@code Remark}.
@@ -17,22 +29,74 @@ public class Remark {
     public Remark(String remark) {
         requireNonNull(remark);
         value = remark;
+        loader = null;
+        preview = toPreview(remark);
+        hashCode = remark.hashCode();
+    }
+
+    private Remark(String remark, Supplier<String> loader) {
+        value = null;
+        this.loader = loader;
+        preview = toPreview(remark);
+        hashCode = remark.hashCode();
+    }
+
+    /**
+     * Returns a lazy {@code Remark} of {@code remark}, which only keeps its preview and loads its text with
+     * {@code loader} every time the text is needed. {@code loader} must return a string equal to {@code remark}.
+     */
+    public static Remark lazy(String remark, Supplier<String> loader) {
+        requireAllNonNull(remark, loader);
+        return new Remark(remark, loader);
+    }
+
+    private static String toPreview(String remark) {
+        return remark.length() <= PREVIEW_LENGTH ? remark : remark.substring(0, PREVIEW_LENGTH) + "...";
+    }
+
+    /**
+     * Returns the first {@link #PREVIEW_LENGTH} characters of the remark, followed by "..." if the remark is longer.
+     * The text of a lazy remark is not loaded.
+     */
+    public String getPreview() {
+        return preview;
     }
 
+    /**
+     * Returns true if the text of this remark is kept in memory.
+     */
+    public boolean isInMemory() {
+        return value != null;
+    }
+
+    /**
+     * Returns the text of the remark, which is loaded if the remark is lazy.
+     */
     @Override
     public String toString() {
-        return value;
+        return value != null ? value : loader.get();
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Remark // instanceof handles nulls
-                && value.equals(((Remark) other).value)); // state check
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Remark)) {
+            return false;
+        }
+
+        Remark otherRemark = (Remark) other;
+        // the texts are only compared, and loaded if lazy, when they may be equal
+        return hashCode == otherRemark.hashCode
+                && preview.equals(otherRemark.preview)
+                && toString().equals(otherRemark.toString());
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return hashCode;
     }
 }
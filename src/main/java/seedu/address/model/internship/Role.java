@@ -3,6 +3,8 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.Interner;
+
 /**
  * Represents an internship's role in the internship data.
  */
@@ -15,6 +17,8 @@ public class Role {
      */
     public static final String VALIDATION_REGEX = "^(?!\\s*$).+";
 
+    private static final Interner<Role> INTERNER = new Interner<>();
+
     public final String role;
 
     /**
@@ -28,6 +32,15 @@ public class Role {
         this.role = role;
     }
 
+    /**
+     * Returns the canonical {@code Role} of {@code role}, which is shared by internships for the same role.
+     *
+     * @param role A valid role.
+     */
+    public static Role of(String role) {
+        return INTERNER.intern(new Role(role));
+    }
+
     /**
      * Returns true if a given string is a valid role.
      */
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.internship.Deadline.isValidDeadline;
 
 import java.util.Map;
+import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -23,9 +24,9 @@ public class Task {
 
     public final String task;
 
-    private Deadline deadline;
+    private final Deadline deadline;
 
-    private boolean isDeadlineSet = false;
+    private final boolean isDeadlineSet;
 
     /**
      * Constructs a {@code Task}.
@@ -36,6 +37,17 @@ public class Task {
         requireNonNull(task);
         checkArgument(isValidTask(task), MESSAGE_CONSTRAINTS);
         this.task = task;
+        this.deadline = null;
+        this.isDeadlineSet = false;
+    }
+
+    /**
+     * Constructs a {@code Task} with the given {@code deadline}.
+     */
+    private Task(String task, Deadline deadline) {
+        this.task = task;
+        this.deadline = deadline;
+        this.isDeadlineSet = true;
     }
 
     /**
@@ -68,8 +80,7 @@ public class Task {
         this.task = task;
 
         if (isDeadlineSet && deadlineMap != null && deadlineMap.containsKey("deadline")) {
-            String deadlineStr = deadlineMap.get("deadline");
-            this.deadline = new Deadline(deadlineStr);
+            this.deadline = Deadline.fromStorage(deadlineMap.get("deadline"), deadlineMap.get("epochDay"));
         } else {
             this.deadline = null;
         }
@@ -85,11 +96,19 @@ public class Task {
     }
 
     /**
-     * Replace deadline with {@code deadline}.
+     * Returns the deadline of this task, or an empty {@code Optional} if it has none.
      */
-    public void setDeadline(Deadline deadline) {
-        this.deadline = deadline;
-        isDeadlineSet = true;
+    public Optional<Deadline> getDeadline() {
+        return isDeadlineSet ? Optional.ofNullable(deadline) : Optional.empty();
+    }
+
+    /**
+     * Returns a copy of this task with its deadline replaced by {@code deadline}.
+     * This task is left unchanged.
+     */
+    public Task withDeadline(Deadline deadline) {
+        requireNonNull(deadline);
+        return new Task(task, deadline);
     }
 
     /**
@@ -1,25 +1,39 @@
 package seedu.address.model.internship;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.util.PersistentVector;
 
 /**
  * Represents the list of tasks in an Internship.
+ * Guarantees: immutable. Adding, replacing or deleting a task returns a new {@code TaskList} that shares all but
+ * O(log n) of its structure with this one, so an internship can be given a changed task list without copying it.
+ * The earliest deadline of the tasks is carried over to the new {@code TaskList}, so that it can be read without
+ * going through the tasks.
  */
 public class TaskList {
-    private final ArrayList<Task> taskList;
+    private final PersistentVector<Task> taskList;
+
+    // The earliest deadline of the tasks, or null if no task has a deadline.
+    private final Deadline earliestDeadline;
 
     /**
-     * Constructs a TaskList object.
+     * Constructs an empty TaskList object.
      */
     public TaskList() {
-        this.taskList = new ArrayList<>();
+        this(PersistentVector.empty(), null);
     }
 
     /**
      * Constructs a TaskList object from an existing list of tasks.
      */
-    public TaskList(ArrayList<Task> taskList) {
-        this.taskList = taskList;
+    public TaskList(List<Task> taskList) {
+        this(PersistentVector.of(taskList));
     }
 
     /**
@@ -29,63 +43,117 @@ public class TaskList {
      * @param tasksString the string containing semicolon-separated tasks
      */
     public TaskList(String tasksString) {
+        this(parseTasks(tasksString));
+    }
+
+    private TaskList(PersistentVector<Task> taskList) {
+        this(taskList, findEarliestDeadline(taskList));
+    }
+
+    private TaskList(PersistentVector<Task> taskList, Deadline earliestDeadline) {
+        this.taskList = taskList;
+        this.earliestDeadline = earliestDeadline;
+    }
+
+    private static List<Task> parseTasks(String tasksString) {
+        List<Task> taskList = new ArrayList<>();
         if (tasksString.equals("") || tasksString.equals(" ")) {
-            this.taskList = new ArrayList<>();
-        } else {
-            ArrayList<Task> taskList = new ArrayList<>();
-            String[] tasksArray = tasksString.split("; ");
-            for (String desc : tasksArray) {
-                // Check for a deadline pattern
-                if (desc.contains("(") && desc.contains(")")) {
-                    String description = desc.substring(0, desc.indexOf("(")).trim();
-                    String deadlineStr = desc.substring(desc.indexOf("(") + 1, desc.indexOf(")")).trim();
-                    taskList.add(new Task(description, deadlineStr));
-                } else {
-                    taskList.add(new Task(desc.trim()));
-                }
+            return taskList;
+        }
+        String[] tasksArray = tasksString.split("; ");
+        for (String desc : tasksArray) {
+            // Check for a deadline pattern
+            if (desc.contains("(") && desc.contains(")")) {
+                String description = desc.substring(0, desc.indexOf("(")).trim();
+                String deadlineStr = desc.substring(desc.indexOf("(") + 1, desc.indexOf(")")).trim();
+                taskList.add(new Task(description, deadlineStr));
+            } else {
+                taskList.add(new Task(desc.trim()));
             }
-            this.taskList = taskList;
         }
+        return taskList;
     }
 
     /**
-     * Returns the taskList with {@code ArrayList<Task>} type. Primarily for JSON purposes.
+     * Returns the tasks as a new {@code ArrayList<Task>}. Primarily for JSON purposes.
      */
     public ArrayList<Task> getArrayListTaskList() {
-        return taskList;
+        return new ArrayList<>(taskList.toList());
     }
 
-    public void addTask(Task task) {
-        taskList.add(task);
+    /**
+     * Returns a task list with {@code task} added to the end of this one.
+     * This task list is left unchanged.
+     */
+    public TaskList addTask(Task task) {
+        requireNonNull(task);
+        return new TaskList(taskList.append(task), earlierOf(earliestDeadline, task));
     }
 
     /**
-     * Deletes a task from the task list based on the index.
+     * Returns a task list with the task at {@code index} of this one deleted.
+     * This task list is left unchanged.
      */
-    public void deleteTask(int index) {
-        taskList.remove(index);
+    public TaskList deleteTask(int index) {
+        PersistentVector<Task> newTaskList = taskList.remove(index);
+        return isEarliestDeadlineOf(taskList.get(index))
+                ? new TaskList(newTaskList)
+                : new TaskList(newTaskList, earliestDeadline);
     }
 
-    public Task getTask(int index) {
-        return taskList.get(index);
+    /**
+     * Returns a task list with the task at {@code index} of this one replaced by {@code task}.
+     * This task list is left unchanged.
+     */
+    public TaskList setTask(int index, Task task) {
+        requireNonNull(task);
+        PersistentVector<Task> newTaskList = taskList.set(index, task);
+        return isEarliestDeadlineOf(taskList.get(index))
+                ? new TaskList(newTaskList)
+                : new TaskList(newTaskList, earlierOf(earliestDeadline, task));
     }
 
     /**
-     * Returns the size of the task list.
+     * Returns the earliest deadline of the tasks, or an empty {@code Optional} if no task has a deadline.
      */
-    public int getTaskListSize() {
-        return taskList.size();
+    public Optional<Deadline> getEarliestDeadline() {
+        return Optional.ofNullable(earliestDeadline);
+    }
+
+    /**
+     * Returns true if the deadline of {@code task} is the earliest deadline, so it may need to be found again once
+     * {@code task} is no longer in the list.
+     */
+    private boolean isEarliestDeadlineOf(Task task) {
+        return task.getDeadline().map(deadline -> deadline.compareTo(earliestDeadline) == 0).orElse(false);
     }
 
     /**
-     * Returns a copy of the task list as a different TaskList.
+     * Returns the earlier of {@code deadline}, which may be null, and the deadline of {@code task}, if any.
      */
-    public TaskList copy() {
-        ArrayList<Task> copiedTaskList = new ArrayList<>();
+    private static Deadline earlierOf(Deadline deadline, Task task) {
+        return task.getDeadline()
+                .filter(taskDeadline -> deadline == null || taskDeadline.compareTo(deadline) < 0)
+                .orElse(deadline);
+    }
+
+    private static Deadline findEarliestDeadline(PersistentVector<Task> taskList) {
+        Deadline earliestDeadline = null;
         for (Task task : taskList) {
-            copiedTaskList.add(task);
+            earliestDeadline = earlierOf(earliestDeadline, task);
         }
-        return new TaskList(copiedTaskList);
+        return earliestDeadline;
+    }
+
+    public Task getTask(int index) {
+        return taskList.get(index);
+    }
+
+    /**
+     * Returns the size of the task list.
+     */
+    public int getTaskListSize() {
+        return taskList.size();
     }
 
     @Override
@@ -113,8 +181,9 @@ public class TaskList {
         if (this.taskList.size() != otherTaskList.taskList.size()) {
             return false;
         }
-        for (int i = 0; i < this.taskList.size(); i++) {
-            if (!this.taskList.get(i).equals(otherTaskList.taskList.get(i))) {
+        Iterator<Task> otherTasks = otherTaskList.taskList.iterator();
+        for (Task task : taskList) {
+            if (!task.equals(otherTasks.next())) {
                 return false;
             }
         }
@@ -123,6 +192,10 @@ public class TaskList {
 
     @Override
     public int hashCode() {
-        return taskList.hashCode();
+        int hashCode = 1;
+        for (Task task : taskList) {
+            hashCode = 31 * hashCode + task.hashCode();
+        }
+        return hashCode;
     }
 }
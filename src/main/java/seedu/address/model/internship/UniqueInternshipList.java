@@ -3,13 +3,19 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.internship.exceptions.DuplicateInternshipException;
 import seedu.address.model.internship.exceptions.InternshipNotFoundException;
+import seedu.address.model.util.PersistentVector;
 
 /**
  * A list of internships that enforces uniqueness between its elements and does not allow nulls.
@@ -21,6 +27,9 @@ import seedu.address.model.internship.exceptions.InternshipNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Alongside the observable list, a {@code PersistentVector} snapshot of the same contents is kept up to date so that
+ * the current state can be captured in O(1) and older states can be restored for undo/redo.
+ *
  * @see Internship#isSameInternship(Internship)
  */
 public class UniqueInternshipList implements Iterable<Internship> {
@@ -28,6 +37,7 @@ public class UniqueInternshipList implements Iterable<Internship> {
     private final ObservableList<Internship> internalList = FXCollections.observableArrayList();
     private final ObservableList<Internship> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersistentVector<Internship> snapshot = PersistentVector.empty();
 
     /**
      * Returns true if the list contains an equivalent internship as the given argument.
@@ -48,6 +58,7 @@ public class UniqueInternshipList implements Iterable<Internship> {
             throw new DuplicateInternshipException();
         }
         internalList.add(toAdd);
+        snapshot = snapshot.append(toAdd);
     }
 
     /**
@@ -69,6 +80,7 @@ public class UniqueInternshipList implements Iterable<Internship> {
         }
 
         internalList.set(index, editedInternship);
+        snapshot = snapshot.set(index, editedInternship);
     }
 
     /**
@@ -77,14 +89,18 @@ public class UniqueInternshipList implements Iterable<Internship> {
      */
     public void remove(Internship toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new InternshipNotFoundException();
         }
+        internalList.remove(index);
+        snapshot = snapshot.remove(index);
     }
 
     public void setInternships(UniqueInternshipList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        snapshot = replacement.snapshot;
     }
 
     /**
@@ -98,6 +114,89 @@ public class UniqueInternshipList implements Iterable<Internship> {
         }
 
         internalList.setAll(internships);
+        snapshot = PersistentVector.of(internships);
+    }
+
+    /**
+     * Removes every internship that matches {@code predicate} in a single pass over the list.
+     * Listeners are notified with a single change, regardless of how many internships are removed.
+     *
+     * @return the removed internships, in list order.
+     */
+    public List<Internship> removeIf(Predicate<Internship> predicate) {
+        requireNonNull(predicate);
+        List<Internship> remaining = new ArrayList<>(internalList.size());
+        List<Internship> removed = new ArrayList<>();
+        for (Internship internship : internalList) {
+            if (predicate.test(internship)) {
+                removed.add(internship);
+            } else {
+                remaining.add(internship);
+            }
+        }
+
+        if (!removed.isEmpty()) {
+            internalList.setAll(remaining);
+            snapshot = PersistentVector.of(remaining);
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces every internship that matches {@code predicate} with the result of applying {@code editor} to it,
+     * in a single pass over the list. Listeners are notified with a single change.
+     * The list is left unchanged if the edits would result in duplicate internships.
+     *
+     * @return the edited internships, in list order.
+     * @throws DuplicateInternshipException if the edited list would contain duplicate internships.
+     */
+    public List<Internship> replaceIf(Predicate<Internship> predicate, UnaryOperator<Internship> editor) {
+        requireAllNonNull(predicate, editor);
+        List<Internship> replacement = new ArrayList<>(internalList.size());
+        List<Internship> edited = new ArrayList<>();
+        for (Internship internship : internalList) {
+            if (predicate.test(internship)) {
+                Internship editedInternship = requireNonNull(editor.apply(internship));
+                edited.add(editedInternship);
+                replacement.add(editedInternship);
+            } else {
+                replacement.add(internship);
+            }
+        }
+
+        if (edited.isEmpty()) {
+            return edited;
+        }
+        if (!internshipsAreUnique(replacement)) {
+            throw new DuplicateInternshipException();
+        }
+        internalList.setAll(replacement);
+        snapshot = PersistentVector.of(replacement);
+        return edited;
+    }
+
+    /**
+     * Starts a batch of changes to this list. The changes are staged in the returned {@code Batch} and only applied
+     * to this list, as a single change to listeners, when {@link Batch#commit()} is called.
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this list.
+     */
+    public PersistentVector<Internship> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of this list with a {@code snapshot} previously obtained from {@link #getSnapshot()}.
+     */
+    public void restoreSnapshot(PersistentVector<Internship> snapshot) {
+        requireNonNull(snapshot);
+        internalList.setAll(snapshot.toList());
+        this.snapshot = snapshot;
     }
 
     /**
@@ -141,11 +240,10 @@ public class UniqueInternshipList implements Iterable<Internship> {
      * Returns true if {@code internships} contains only unique internships.
      */
     private boolean internshipsAreUnique(List<Internship> internships) {
-        for (int i = 0; i < internships.size() - 1; i++) {
-            for (int j = i + 1; j < internships.size(); j++) {
-                if (internships.get(i).isSameInternship(internships.get(j))) {
-                    return false;
-                }
+        Set<Identity> identities = new HashSet<>();
+        for (Internship internship : internships) {
+            if (!identities.add(new Identity(internship))) {
+                return false;
             }
         }
         return true;
@@ -157,4 +255,142 @@ public class UniqueInternshipList implements Iterable<Internship> {
     public boolean isEmpty() {
         return internalList.isEmpty();
     }
+
+    /**
+     * The identity of an internship, so that two internships have equal identities exactly when they are the same
+     * internship. Identities are hashed and compared by the identity key of the internship first, so the fields
+     * compared by {@link Internship#isSameInternship(Internship)} are only compared when the keys are equal.
+     */
+    private static class Identity {
+        private final Internship internship;
+
+        private Identity(Internship internship) {
+            this.internship = internship;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Identity)) {
+                return false;
+            }
+
+            return internship.isSameInternship(((Identity) other).internship);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(internship.getIdentityKey());
+        }
+    }
+
+    /**
+     * A set of additions, replacements and removals that is applied to the list all at once.
+     * Each operation is checked like the operation of the same name on the list, against the list as changed by the
+     * earlier operations in the batch. Uniqueness is checked in constant time, so adding many internships in one
+     * batch takes time linear in their number, unlike adding them to the list one at a time.
+     * Nothing is applied if the batch is not committed, e.g. because an operation threw an exception.
+     */
+    public class Batch {
+        private final PersistentVector<Internship> base = snapshot;
+        private final List<Internship> staged = new ArrayList<>(internalList);
+        private final Set<Identity> stagedIdentities = new HashSet<>();
+        private PersistentVector<Internship> stagedSnapshot = snapshot;
+        private boolean isChanged;
+        private boolean isCommitted;
+
+        private Batch() {
+            for (Internship internship : staged) {
+                stagedIdentities.add(new Identity(internship));
+            }
+        }
+
+        /**
+         * Returns true if the list, as changed by this batch so far, contains an internship with the same identity
+         * as {@code toCheck}.
+         */
+        public boolean contains(Internship toCheck) {
+            requireNonNull(toCheck);
+            return stagedIdentities.contains(new Identity(toCheck));
+        }
+
+        /**
+         * Stages the addition of {@code toAdd} to the end of the list.
+         * @throws DuplicateInternshipException if the list already contains the same internship.
+         */
+        public Batch add(Internship toAdd) {
+            requireNonNull(toAdd);
+            if (!stagedIdentities.add(new Identity(toAdd))) {
+                throw new DuplicateInternshipException();
+            }
+            staged.add(toAdd);
+            stagedSnapshot = stagedSnapshot.append(toAdd);
+            isChanged = true;
+            return this;
+        }
+
+        /**
+         * Stages the replacement of {@code target} with {@code editedInternship}.
+         * @throws InternshipNotFoundException if {@code target} is not in the list.
+         * @throws DuplicateInternshipException if another internship in the list is the same as
+         *     {@code editedInternship}.
+         */
+        public Batch setInternship(Internship target, Internship editedInternship) {
+            requireAllNonNull(target, editedInternship);
+            int index = staged.indexOf(target);
+            if (index == -1) {
+                throw new InternshipNotFoundException();
+            }
+            if (!target.isSameInternship(editedInternship) && contains(editedInternship)) {
+                throw new DuplicateInternshipException();
+            }
+            stagedIdentities.remove(new Identity(staged.get(index)));
+            stagedIdentities.add(new Identity(editedInternship));
+            staged.set(index, editedInternship);
+            stagedSnapshot = stagedSnapshot.set(index, editedInternship);
+            isChanged = true;
+            return this;
+        }
+
+        /**
+         * Stages the removal of the internship equal to {@code toRemove}.
+         * @throws InternshipNotFoundException if {@code toRemove} is not in the list.
+         */
+        public Batch remove(Internship toRemove) {
+            requireNonNull(toRemove);
+            int index = staged.indexOf(toRemove);
+            if (index == -1) {
+                throw new InternshipNotFoundException();
+            }
+            stagedIdentities.remove(new Identity(staged.remove(index)));
+            stagedSnapshot = stagedSnapshot.remove(index);
+            isChanged = true;
+            return this;
+        }
+
+        /**
+         * Applies the staged operations to the list, notifying listeners with a single change.
+         * Nothing happens if no operations were staged.
+         * @throws IllegalStateException if the batch was already committed, or the list was changed outside this
+         *     batch after the batch was started.
+         */
+        public void commit() {
+            if (isCommitted) {
+                throw new IllegalStateException("This batch has already been committed.");
+            }
+            if (snapshot != base) {
+                throw new IllegalStateException("The list was changed after this batch was started.");
+            }
+            isCommitted = true;
+            if (!isChanged) {
+                return;
+            }
+            internalList.setAll(staged);
+            snapshot = stagedSnapshot;
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values read from storage or parsed from
+ * commands can share one object instead of each keeping its own copy.
+ * The pool only holds its instances weakly, so a value that is no longer used anywhere else can still be garbage
+ * collected.
+ * The bytes saved by sharing can be estimated from the values in use with {@link #estimateBytesSaved}.
+ *
+ * @param <T> the type of the values interned, which must be immutable and implement {@code equals} and
+ *     {@code hashCode}
+ */
+public final class Interner<T> {
+
+    /** The estimated size in bytes of an object that holds a single reference, e.g. a wrapped enum constant. */
+    public static final long REFERENCE_WRAPPER_SIZE = 16;
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance of {@code value}, which becomes the canonical instance if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of canonical instances in this pool that have not been garbage collected yet.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+
+    /**
+     * Returns the estimated number of bytes saved by {@code values} sharing instances, compared to each value having
+     * its own copy. Every value after the first one of each instance counts as saved.
+     *
+     * @param sizeEstimator Returns the estimated size in bytes of a value.
+     */
+    public static <T> long estimateBytesSaved(Iterable<? extends T> values, ToLongFunction<? super T> sizeEstimator) {
+        requireNonNull(values);
+        requireNonNull(sizeEstimator);
+        Set<T> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytesSaved = 0;
+        for (T value : values) {
+            if (!instances.add(value)) {
+                bytesSaved += sizeEstimator.applyAsLong(value);
+            }
+        }
+        return bytesSaved;
+    }
+
+    /**
+     * Returns the estimated size in bytes of an object that holds only {@code value}, including the string itself.
+     * This assumes compressed references and strings that are stored one byte per character.
+     */
+    public static long estimateStringWrapperSize(String value) {
+        requireNonNull(value);
+        long stringSize = 24;
+        long arraySize = (16 + value.length() + 7) / 8 * 8;
+        return REFERENCE_WRAPPER_SIZE + stringSize + arraySize;
+    }
+}
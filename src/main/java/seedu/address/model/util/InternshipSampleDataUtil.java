@@ -9,6 +9,7 @@ import seedu.address.model.internship.ContactName;
 import seedu.address.model.internship.ContactNumber;
 import seedu.address.model.internship.Description;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.UniqueInternshipList;
 import seedu.address.model.internship.Location;
 import seedu.address.model.internship.Remark;
 import seedu.address.model.internship.Role;
@@ -23,29 +24,31 @@ public class InternshipSampleDataUtil {
 
     public static Internship[] getSampleInternships() {
         return new Internship[]{
-            new Internship(new CompanyName("Google"), new ContactName("John Doe"),
+            new Internship(CompanyName.of("Google"), ContactName.of("John Doe"),
                     new ContactEmail("johndoe@example.com"), new ContactNumber("12345678"),
-                    new Location("remote"), new ApplicationStatus("to_apply"),
+                    Location.of("remote"), ApplicationStatus.of("to_apply"),
                     new Description("Software Engineering Internship"),
-                    new Role("Software Engineer"), EMPTY_REMARK, EMPTY_TASKLIST),
-            new Internship(new CompanyName("Facebook"), new ContactName("Jane Smith"),
+                    Role.of("Software Engineer"), EMPTY_REMARK, EMPTY_TASKLIST),
+            new Internship(CompanyName.of("Facebook"), ContactName.of("Jane Smith"),
                     new ContactEmail("janesmith@example.com"), new ContactNumber("98765432"),
-                    new Location("local"), new ApplicationStatus("pending"),
+                    Location.of("local"), ApplicationStatus.of("pending"),
                     new Description("Product Management Internship"),
-                    new Role("Product Manager"), EMPTY_REMARK, EMPTY_TASKLIST),
-            new Internship(new CompanyName("Amazon"), new ContactName("Mark Johnson"),
+                    Role.of("Product Manager"), EMPTY_REMARK, EMPTY_TASKLIST),
+            new Internship(CompanyName.of("Amazon"), ContactName.of("Mark Johnson"),
                     new ContactEmail("markjohnson@example.com"), new ContactNumber("45678901"),
-                    new Location("remote"), new ApplicationStatus("rejected"),
+                    Location.of("remote"), ApplicationStatus.of("rejected"),
                     new Description("Business Development Internship"),
-                    new Role("Business Development Associate"), EMPTY_REMARK, EMPTY_TASKLIST),
+                    Role.of("Business Development Associate"), EMPTY_REMARK, EMPTY_TASKLIST),
         };
     }
 
     public static ReadOnlyInternshipData getSampleInternshipData() {
         InternshipData sampleInternshipData = new InternshipData();
+        UniqueInternshipList.Batch batch = sampleInternshipData.batch();
         for (Internship sampleInternship : getSampleInternships()) {
-            sampleInternshipData.addInternship(sampleInternship);
+            batch.add(sampleInternship);
         }
+        batch.commit();
         return sampleInternshipData;
     }
 }
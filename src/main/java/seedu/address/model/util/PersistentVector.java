@@ -0,0 +1,268 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable, indexed sequence of elements backed by a size-annotated AVL tree.
+ * Every update returns a new {@code PersistentVector} that shares all untouched subtrees with the original,
+ * so an update only allocates O(log n) new nodes and older versions remain valid and unchanged.
+ *
+ * @param <T> the type of elements held in this vector
+ */
+public final class PersistentVector<T> implements Iterable<T> {
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(null);
+
+    private final Node<T> root;
+
+    private PersistentVector(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty {@code PersistentVector}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Returns a {@code PersistentVector} containing the elements of {@code items} in order.
+     * The resulting tree is perfectly balanced and is built in O(n) time.
+     */
+    public static <T> PersistentVector<T> of(List<? extends T> items) {
+        requireNonNull(items);
+        if (items.isEmpty()) {
+            return empty();
+        }
+        return new PersistentVector<>(build(new ArrayList<>(items), 0, items.size()));
+    }
+
+    public int size() {
+        return Node.size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> current = root;
+        while (true) {
+            int leftSize = Node.size(current.left);
+            if (index < leftSize) {
+                current = current.left;
+            } else if (index == leftSize) {
+                return current.value;
+            } else {
+                index -= leftSize + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a new vector with the element at {@code index} replaced by {@code value}.
+     */
+    public PersistentVector<T> set(int index, T value) {
+        checkIndex(index, size());
+        if (get(index) == value) {
+            return this;
+        }
+        return new PersistentVector<>(set(root, index, value));
+    }
+
+    /**
+     * Returns a new vector with {@code value} inserted at {@code index}, shifting later elements to the right.
+     */
+    public PersistentVector<T> insert(int index, T value) {
+        checkIndex(index, size() + 1);
+        return new PersistentVector<>(insert(root, index, value));
+    }
+
+    /**
+     * Returns a new vector with {@code value} appended to the end.
+     */
+    public PersistentVector<T> append(T value) {
+        return insert(size(), value);
+    }
+
+    /**
+     * Returns a new vector with the element at {@code index} removed, shifting later elements to the left.
+     */
+    public PersistentVector<T> remove(int index) {
+        checkIndex(index, size());
+        Node<T> newRoot = remove(root, index);
+        return newRoot == null ? empty() : new PersistentVector<>(newRoot);
+    }
+
+    /**
+     * Returns the elements of this vector as a new mutable {@code List}.
+     */
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size());
+        for (T value : this) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<T>> stack = new ArrayDeque<>();
+
+            {
+                pushLeft(root);
+            }
+
+            private void pushLeft(Node<T> node) {
+                for (Node<T> current = node; current != null; current = current.left) {
+                    stack.push(current);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (stack.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> next = stack.pop();
+                pushLeft(next.right);
+                return next.value;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static <T> Node<T> build(List<? extends T> items, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(items.get(mid), build(items, from, mid), build(items, mid + 1, to));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T value) {
+        int leftSize = Node.size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, set(node.left, index, value), node.right);
+        } else if (index == leftSize) {
+            return new Node<>(value, node.left, node.right);
+        } else {
+            return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, value));
+        }
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T value) {
+        if (node == null) {
+            return new Node<>(value, null, null);
+        }
+        int leftSize = Node.size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, value), node.right);
+        } else {
+            return balance(node.value, node.left, insert(node.right, index - leftSize - 1, value));
+        }
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = Node.size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        }
+
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Creates a node holding {@code value} over {@code left} and {@code right}, rotating if the subtree heights
+     * differ by more than one.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int difference = Node.height(left) - Node.height(right);
+        if (difference > 1) {
+            if (Node.height(left.left) >= Node.height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            Node<T> pivot = left.right;
+            return new Node<>(pivot.value, new Node<>(left.value, left.left, pivot.left),
+                    new Node<>(value, pivot.right, right));
+        }
+        if (difference < -1) {
+            if (Node.height(right.right) >= Node.height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            Node<T> pivot = right.left;
+            return new Node<>(pivot.value, new Node<>(value, left, pivot.left),
+                    new Node<>(right.value, pivot.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    /**
+     * An immutable tree node that caches the size and height of the subtree rooted at it.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+
+        static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+    }
+}
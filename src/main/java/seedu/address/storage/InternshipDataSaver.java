@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.util.PersistentVector;
+
+/**
+ * Saves the internship data on a background thread, from immutable snapshots of the model.
+ * Saves requested while an earlier one is still waiting are combined, so only the latest snapshot is written.
+ * A failed save is reported by the next call to {@link #save(PersistentVector)}.
+ */
+public class InternshipDataSaver {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(InternshipDataSaver.class);
+
+    private final InternshipDataStorage storage;
+    private final ExecutorService executor;
+    private final AtomicReference<PersistentVector<Internship>> pendingSnapshot = new AtomicReference<>();
+    private final AtomicReference<IOException> saveError = new AtomicReference<>();
+
+    /**
+     * Creates an {@code InternshipDataSaver} that saves to {@code storage} on its own thread.
+     */
+    public InternshipDataSaver(InternshipDataStorage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "data-saver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates an {@code InternshipDataSaver} that saves to {@code storage} with {@code executor}, which must run
+     * one task at a time.
+     */
+    InternshipDataSaver(InternshipDataStorage storage, ExecutorService executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Saves {@code snapshot} in the background, replacing any snapshot that is still waiting to be saved.
+     *
+     * @throws IOException if an earlier save failed. {@code snapshot} is still saved.
+     */
+    public void save(PersistentVector<Internship> snapshot) throws IOException {
+        requireNonNull(snapshot);
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            executor.execute(this::saveLatestSnapshot);
+        }
+
+        IOException error = saveError.getAndSet(null);
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Stops accepting snapshots and waits for the snapshot waiting to be saved, if any, to be written.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Data still being saved after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void saveLatestSnapshot() {
+        PersistentVector<Internship> snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveInternshipData(new SnapshotInternshipData(snapshot));
+        } catch (IOException e) {
+            logger.warning("Failed to save data " + StringUtil.getDetails(e));
+            saveError.set(e);
+        }
+    }
+
+    /**
+     * A {@code ReadOnlyInternshipData} with the internships of a snapshot.
+     */
+    private static class SnapshotInternshipData implements ReadOnlyInternshipData {
+        private final ObservableList<Internship> internships;
+
+        SnapshotInternshipData(PersistentVector<Internship> snapshot) {
+            internships = FXCollections.unmodifiableObservableList(FXCollections.observableList(snapshot.toList()));
+        }
+
+        @Override
+        public ObservableList<Internship> getInternshipList() {
+            return internships;
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.internship.ApplicationStatus;
@@ -32,7 +37,10 @@ public class JsonAdaptedInternship {
     private final String location;
     private final String description;
     private final String role;
-    private final String remark;
+    // Written with its toString() when the file is saved, so a lazy remark is only loaded while it is being written,
+    // instead of the texts of all remarks being held in memory from when the internships are converted.
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Remark remark;
     private final ArrayList<Task> taskList;
 
     /**
@@ -57,7 +65,7 @@ public class JsonAdaptedInternship {
         this.location = location;
         this.description = description;
         this.role = role;
-        this.remark = remark;
+        this.remark = remark == null ? null : new Remark(remark);
         this.taskList = taskList;
     }
 
@@ -78,7 +86,7 @@ public class JsonAdaptedInternship {
         role = source.getRole().role;
 
         // Remark field
-        remark = source.getRemark().toString();
+        remark = source.getRemark();
         taskList = source.getTaskList().getArrayListTaskList();
     }
 
@@ -88,6 +96,17 @@ public class JsonAdaptedInternship {
      * @throws IllegalValueException if there were any data constraints violated in the adapted internship.
      */
     public Internship toModelType() throws IllegalValueException {
+        return toModelType(Remark::new);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted internship object into the model's {@code Internship} object, creating
+     * its remark with {@code remarkFactory}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted internship.
+     */
+    public Internship toModelType(Function<String, Remark> remarkFactory) throws IllegalValueException {
+        requireNonNull(remarkFactory);
         return new Internship(
                 getValidCompanyName(),
                 getValidContactName(),
@@ -97,7 +116,7 @@ public class JsonAdaptedInternship {
                 getValidApplicationStatus(),
                 getValidDescription(),
                 getValidRole(),
-                getValidRemark(),
+                getValidRemark(remarkFactory),
                 getValidTaskList()
         );
     }
@@ -111,7 +130,7 @@ public class JsonAdaptedInternship {
         if (!CompanyName.isValidCompanyName(companyName)) {
             throw new IllegalValueException(CompanyName.MESSAGE_CONSTRAINTS);
         }
-        return new CompanyName(companyName);
+        return CompanyName.of(companyName);
     }
 
     private ContactName getValidContactName() throws IllegalValueException {
@@ -123,7 +142,7 @@ public class JsonAdaptedInternship {
         if (!ContactName.isValidContactName(contactName)) {
             throw new IllegalValueException(ContactName.MESSAGE_CONSTRAINTS);
         }
-        return new ContactName(contactName);
+        return ContactName.of(contactName);
     }
 
     private ContactEmail getValidContactEmail() throws IllegalValueException {
@@ -159,7 +178,7 @@ public class JsonAdaptedInternship {
         if (!Location.isValidLocation(location)) {
             throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
         }
-        return new Location(location);
+        return Location.of(location);
     }
 
     private ApplicationStatus getValidApplicationStatus() throws IllegalValueException {
@@ -171,7 +190,7 @@ public class JsonAdaptedInternship {
         if (!ApplicationStatus.isValidApplicationStatus(applicationStatus)) {
             throw new IllegalValueException(ApplicationStatus.MESSAGE_CONSTRAINTS);
         }
-        return new ApplicationStatus(applicationStatus);
+        return ApplicationStatus.of(applicationStatus);
     }
 
     private Description getValidDescription() throws IllegalValueException {
@@ -195,16 +214,15 @@ public class JsonAdaptedInternship {
         if (!Role.isValidRole(role)) {
             throw new IllegalValueException(Role.MESSAGE_CONSTRAINTS);
         }
-        return new Role(role);
+        return Role.of(role);
     }
 
-    private Remark getValidRemark() throws IllegalValueException {
-        String remark = this.remark;
+    private Remark getValidRemark(Function<String, Remark> remarkFactory) throws IllegalValueException {
         if (remark == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Remark.class.getSimpleName()));
         }
-        return new Remark(remark);
+        return remarkFactory.apply(remark.toString());
     }
 
     private TaskList getValidTaskList() throws IllegalValueException {
@@ -12,7 +12,9 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Remark;
 
 /**
  * A class to access InternshipData data stored as a json file on the hard disk.
@@ -23,8 +25,23 @@ public class JsonInternshipDataStorage implements InternshipDataStorage {
 
     private Path filePath;
 
+    // Remarks at least lazyRemarkLength characters long are moved to remarkFile when read, if it is not null.
+    private final TextBlobFile remarkFile;
+    private final int lazyRemarkLength;
+
     public JsonInternshipDataStorage(Path filePath) {
+        this(filePath, null, 0);
+    }
+
+    /**
+     * Creates a {@code JsonInternshipDataStorage} that moves the remarks that are at least {@code lazyRemarkLength}
+     * characters long to {@code remarkFile} when it reads the data, and keeps only their previews in memory.
+     * All remarks are kept in memory if {@code remarkFile} is null.
+     */
+    public JsonInternshipDataStorage(Path filePath, TextBlobFile remarkFile, int lazyRemarkLength) {
         this.filePath = filePath;
+        this.remarkFile = remarkFile;
+        this.lazyRemarkLength = lazyRemarkLength;
     }
 
     public Path getInternshipDataFilePath() {
@@ -50,13 +67,29 @@ public class JsonInternshipDataStorage implements InternshipDataStorage {
             return Optional.empty();
         }
         try {
-            return Optional.of(jsonInternshipData.get().toModelType());
+            return Optional.of(jsonInternshipData.get().toModelType(this::toRemark));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Returns a lazy {@code Remark} of {@code remark} that is stored in the remark file if it is long enough, or a
+     * {@code Remark} kept in memory otherwise.
+     */
+    private Remark toRemark(String remark) {
+        if (remarkFile == null || remark.length() < lazyRemarkLength) {
+            return new Remark(remark);
+        }
+        try {
+            return Remark.lazy(remark, remarkFile.append(remark));
+        } catch (IOException e) {
+            logger.warning("Failed to move a remark to " + remarkFile.getPath() + ": " + StringUtil.getDetails(e));
+            return new Remark(remark);
+        }
+    }
+
     /**
      * {inheritDoc InternshipDataStorage#saveInternshipData(ReadOnlyInternshipData)}
      */
@@ -1,7 +1,10 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,6 +15,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.InternshipData;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Remark;
+import seedu.address.model.internship.UniqueInternshipList;
 
 /**
  * An Immutable InternshipData that is serializable to JSON format.
@@ -46,14 +51,27 @@ public class JsonSerializableInternshipData {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public InternshipData toModelType() throws IllegalValueException {
+        return toModelType(Remark::new);
+    }
+
+    /**
+     * Converts this internshipdata into the model's {@code InternshipData} object, creating the remarks of the
+     * internships with {@code remarkFactory}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public InternshipData toModelType(Function<String, Remark> remarkFactory) throws IllegalValueException {
+        requireNonNull(remarkFactory);
         InternshipData internshipData = new InternshipData();
+        UniqueInternshipList.Batch batch = internshipData.batch();
         for (JsonAdaptedInternship jsonAdaptedInternship : internships) {
-            Internship internship = jsonAdaptedInternship.toModelType();
-            if (internshipData.hasInternship(internship)) {
+            Internship internship = jsonAdaptedInternship.toModelType(remarkFactory);
+            if (batch.contains(internship)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_INTERNSHIP);
             }
-            internshipData.addInternship(internship);
+            batch.add(internship);
         }
+        batch.commit();
         return internshipData;
     }
 }
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A file that texts are appended to, so that they can be dropped from memory and read back by their offset when they
+ * are needed.
+ * The texts read most recently are kept in a cache of bounded size, so that a text that is read again soon after is
+ * not read from the file again.
+ */
+public class TextBlobFile implements Closeable {
+
+    /** The number of texts kept in the cache by default. */
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int cacheSize;
+    private final Map<Long, String> cache;
+    private long size;
+
+    /**
+     * Creates an empty {@code TextBlobFile} at {@code path}, replacing any file there, that caches up to
+     * {@code cacheSize} texts.
+     */
+    public TextBlobFile(Path path, int cacheSize) throws IOException {
+        requireNonNull(path);
+        checkArgument(cacheSize > 0, "The cache size must be positive.");
+        this.path = path;
+        this.cacheSize = cacheSize;
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > TextBlobFile.this.cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Creates an empty {@code TextBlobFile} in a temporary file that is deleted when the application exits.
+     */
+    public static TextBlobFile createTemporary(int cacheSize) throws IOException {
+        Path path = Files.createTempFile("careersync-", ".blob");
+        path.toFile().deleteOnExit();
+        return new TextBlobFile(path, cacheSize);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Appends {@code text} to the file, and returns a supplier that reads it back from the file, or from the cache.
+     * The supplier throws an {@code UncheckedIOException} if the text cannot be read.
+     */
+    public synchronized Supplier<String> append(String text) throws IOException {
+        requireNonNull(text);
+        if (text.isEmpty()) {
+            // not stored, as it would have the same offset as the next text, and so share its place in the cache
+            return () -> "";
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        long offset = size;
+        int length = bytes.remaining();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes, size + bytes.position());
+        }
+        size += length;
+        return () -> read(offset, length);
+    }
+
+    private synchronized String read(long offset, int length) {
+        String text = cache.get(offset);
+        if (text != null) {
+            return text;
+        }
+        try {
+            ByteBuffer bytes = ByteBuffer.allocate(length);
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes, offset + bytes.position()) < 0) {
+                    throw new IOException("Unexpected end of " + path);
+                }
+            }
+            text = new String(bytes.array(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        cache.put(offset, text);
+        return text;
+    }
+
+    /**
+     * Returns the number of texts in the cache.
+     */
+    public synchronized int getCachedCount() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the number of bytes appended to the file.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
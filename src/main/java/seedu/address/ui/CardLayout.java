@@ -0,0 +1,76 @@
+package seedu.address.ui;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+/**
+ * Builds the scene graph shared by the internship cards.
+ * The cards are created for every list cell, so their nodes are built directly rather than loaded from FXML.
+ */
+final class CardLayout {
+
+    static final String BIG_LABEL_STYLE_CLASS = "cell_big_label";
+    static final String SMALL_LABEL_STYLE_CLASS = "cell_small_label";
+
+    private static final String CARD_PANE_ID = "cardPane";
+    private static final double COLUMN_MIN_WIDTH = 10;
+    private static final double COLUMN_PREF_WIDTH = 150;
+    private static final double CARD_MIN_HEIGHT = 105;
+    private static final Insets CARD_PADDING = new Insets(5, 5, 5, 15);
+    private static final double HEADER_SPACING = 5;
+
+    private CardLayout() {}
+
+    /**
+     * Returns a label with the given style class.
+     */
+    static Label createLabel(String styleClass) {
+        Label label = new Label();
+        label.getStyleClass().add(styleClass);
+        return label;
+    }
+
+    /**
+     * Returns a label with the given style class that wraps its text.
+     */
+    static Label createWrappingLabel(String styleClass) {
+        Label label = createLabel(styleClass);
+        label.setWrapText(true);
+        return label;
+    }
+
+    /**
+     * Lays out a card in the empty {@code cardPane}, showing {@code headerLabels} side by side on the first line
+     * and {@code bodyLabels} one per line below them.
+     */
+    static void populateCardPane(HBox cardPane, Label[] headerLabels, Label... bodyLabels) {
+        HBox header = new HBox(HEADER_SPACING, headerLabels);
+        header.setAlignment(Pos.CENTER_LEFT);
+
+        VBox content = new VBox(header);
+        content.getChildren().addAll(bodyLabels);
+        content.setAlignment(Pos.CENTER_LEFT);
+        content.setMinHeight(CARD_MIN_HEIGHT);
+        content.setPadding(CARD_PADDING);
+
+        ColumnConstraints column = new ColumnConstraints();
+        column.setHgrow(Priority.SOMETIMES);
+        column.setMinWidth(COLUMN_MIN_WIDTH);
+        column.setPrefWidth(COLUMN_PREF_WIDTH);
+
+        GridPane grid = new GridPane();
+        grid.getColumnConstraints().add(column);
+        grid.add(content, 0, 0);
+        HBox.setHgrow(grid, Priority.ALWAYS);
+
+        cardPane.getChildren().add(grid);
+        cardPane.setId(CARD_PANE_ID);
+    }
+
+}
@@ -1,12 +1,18 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -14,25 +20,76 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String IN_FLIGHT_STYLE_CLASS = "in-flight";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final Function<String, List<String>> commandCompleter;
+
+    // The completions offered by the last press of Tab, which further presses of Tab cycle through.
+    private List<String> completions = List.of();
+    private int completionIndex;
 
     @FXML
     private TextField commandTextField;
 
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * The command box indicates that commands are in flight whenever {@code pendingCommandCount} is positive.
+     */
+    public CommandBox(CommandExecutor commandExecutor, ReadOnlyIntegerProperty pendingCommandCount) {
+        this(commandExecutor, pendingCommandCount, unused -> {}, unused -> List.of());
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * The command box indicates that commands are in flight whenever {@code pendingCommandCount} is positive,
+     * and passes its text to {@code commandTextListener} whenever the text changes.
+     * Pressing Tab replaces the text with the first of its completions given by {@code commandCompleter}, and
+     * pressing Tab again moves on to the next completion.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, ReadOnlyIntegerProperty pendingCommandCount,
+            Consumer<String> commandTextListener, Function<String, List<String>> commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, text) -> commandTextListener.accept(text));
+        pendingCommandCount.addListener((unused1, unused2, count) -> setInFlight(count.intValue() > 0));
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleCompletionRequested();
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Handles the Tab button pressed event.
+     * If the text is the completion put in by the last press of Tab, it is replaced by the next completion instead.
+     */
+    private void handleCompletionRequested() {
+        String commandText = commandTextField.getText();
+        if (!completions.isEmpty() && commandText.equals(completions.get(completionIndex))) {
+            completionIndex = (completionIndex + 1) % completions.size();
+        } else {
+            completions = commandCompleter.apply(commandText);
+            completionIndex = 0;
+            if (completions.isEmpty()) {
+                return;
+            }
+        }
+
+        String completedText = completions.get(completionIndex);
+        commandTextField.setText(completedText);
+        commandTextField.positionCaret(completedText.length());
     }
 
     /**
      * Handles the Enter button pressed event.
+     * The command box is cleared straight away so that the next command can be typed while this one runs.
+     * If the command fails and nothing new has been typed, the command is put back so that it can be corrected.
      */
     @FXML
     private void handleCommandEntered() {
@@ -41,11 +98,24 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((result, error) -> {
+            if (error != null && commandTextField.getText().equals("")) {
+                commandTextField.setText(commandText);
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Shows or hides the indicator that commands are still running.
+     */
+    private void setInFlight(boolean isInFlight) {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (!isInFlight) {
+            styleClass.remove(IN_FLIGHT_STYLE_CLASS);
+        } else if (!styleClass.contains(IN_FLIGHT_STYLE_CLASS)) {
+            styleClass.add(IN_FLIGHT_STYLE_CLASS);
         }
     }
 
@@ -75,11 +145,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Queues the command for execution and returns a future of the result, which is completed on the
+         * JavaFX Application Thread. The future fails if the command could not be parsed or executed.
          *
          * @see seedu.address.logic.InternshipLogic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -0,0 +1,242 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.CommandPhase;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.InternshipLogic;
+import seedu.address.logic.InternshipLogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.internship.Internship;
+
+/**
+ * Runs commands on a dedicated worker thread so that parsing, filtering, sorting and saving do not block the
+ * JavaFX Application Thread.
+ * Commands are executed one at a time in the order they are submitted. After each command, the internships on the
+ * model's current page are copied on the worker and applied to the list returned by
+ * {@link #getDisplayedInternshipList()} as a single change, and the selected internship to
+ * {@link #displayedSelectedInternshipProperty()}, on the JavaFX Application Thread.
+ * The UI should bind to those instead of the model, which is only touched by the worker.
+ */
+public class CommandPipeline {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final Logger logger = LogsCenter.getLogger(CommandPipeline.class);
+
+    private final InternshipLogic logic;
+    private final ExecutorService worker;
+    private final Executor fxExecutor;
+
+    private final ObservableList<Internship> displayedInternships = FXCollections.observableArrayList();
+    private final ReadOnlyObjectWrapper<Internship> displayedSelectedInternship = new ReadOnlyObjectWrapper<>();
+    private final ReadOnlyIntegerWrapper displayedPageOffset = new ReadOnlyIntegerWrapper(0);
+    private final ReadOnlyIntegerWrapper pendingCount = new ReadOnlyIntegerWrapper(0);
+
+    /**
+     * Creates a {@code CommandPipeline} that executes commands with {@code logic} and publishes results with
+     * {@code Platform.runLater}.
+     */
+    public CommandPipeline(InternshipLogic logic) {
+        this(logic, Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code CommandPipeline} that executes commands with {@code logic} and publishes results through
+     * {@code fxExecutor}, which must run tasks in the order they are given.
+     */
+    CommandPipeline(InternshipLogic logic, Executor fxExecutor) {
+        requireNonNull(logic);
+        requireNonNull(fxExecutor);
+        this.logic = logic;
+        this.fxExecutor = fxExecutor;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        displayedPageOffset.set(logic.getPageIndex() * InternshipModel.PAGE_SIZE);
+        displayedInternships.setAll(logic.getInternshipPage());
+        displayedSelectedInternship.set(logic.getSelectedInternship());
+    }
+
+    /**
+     * Queues {@code commandText} for execution.
+     * The returned future is completed on the JavaFX Application Thread, after the displayed internships are updated.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        return submit(() -> logic.execute(commandText), InternshipLogicManager.getCommandWord(commandText));
+    }
+
+    /**
+     * Queues {@code action} to run on the worker thread, e.g. to change the model's selected internship.
+     * The returned future is completed on the JavaFX Application Thread, after the displayed internships are updated.
+     */
+    public CompletableFuture<Void> run(Runnable action) {
+        requireNonNull(action);
+        return submit(() -> {
+            action.run();
+            return null;
+        }, null);
+    }
+
+    /**
+     * Queues {@code action} to run on the worker thread, e.g. to read from the model.
+     * The returned future is completed with the result of {@code action} on the JavaFX Application Thread, after the
+     * displayed internships are updated.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> action) {
+        requireNonNull(action);
+        return submit(action::get, null);
+    }
+
+    /**
+     * Queues {@code task}. If {@code commandWord} is not null, the time taken to update the displayed internships is
+     * recorded under it once the task succeeds.
+     */
+    private <T> CompletableFuture<T> submit(Task<T> task, String commandWord) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        pendingCount.set(pendingCount.get() + 1);
+
+        worker.execute(() -> {
+            T result = null;
+            Throwable error = null;
+            try {
+                result = task.call();
+            } catch (Throwable e) {
+                // errors such as a failed assertion are caught as well, so that the future is always completed
+                error = e;
+            }
+
+            List<Internship> internships = List.of();
+            int pageOffset = 0;
+            Internship selectedInternship = null;
+            try {
+                internships = new ArrayList<>(logic.getInternshipPage());
+                pageOffset = logic.getPageIndex() * InternshipModel.PAGE_SIZE;
+                selectedInternship = logic.getSelectedInternship();
+            } catch (Throwable e) {
+                logger.severe("Failed to read the displayed internships: " + StringUtil.getDetails(e));
+                if (error == null) {
+                    error = e;
+                }
+            }
+            T finalResult = result;
+            Throwable finalError = error;
+            List<Internship> finalInternships = internships;
+            int finalPageOffset = pageOffset;
+            Internship finalSelectedInternship = selectedInternship;
+
+            fxExecutor.execute(() -> {
+                try {
+                    long start = System.nanoTime();
+                    displayedPageOffset.set(finalPageOffset);
+                    applyChanges(displayedInternships, finalInternships);
+                    displayedSelectedInternship.set(finalSelectedInternship);
+                    if (commandWord != null && finalError == null) {
+                        CommandMetrics.getInstance().record(commandWord, CommandPhase.UI_REFRESH,
+                                System.nanoTime() - start);
+                    }
+                } finally {
+                    pendingCount.set(pendingCount.get() - 1);
+                    if (finalError == null) {
+                        future.complete(finalResult);
+                    } else {
+                        future.completeExceptionally(finalError);
+                    }
+                }
+            });
+        });
+        return future;
+    }
+
+    /**
+     * Replaces the contents of {@code target} with {@code source} in a single change,
+     * unless {@code target} already holds the same internship objects in the same order.
+     */
+    private static void applyChanges(ObservableList<Internship> target, List<Internship> source) {
+        if (target.size() == source.size()) {
+            boolean isUnchanged = true;
+            for (int i = 0; i < source.size() && isUnchanged; i++) {
+                isUnchanged = target.get(i) == source.get(i);
+            }
+            if (isUnchanged) {
+                return;
+            }
+        }
+        target.setAll(source);
+    }
+
+    /**
+     * Returns an unmodifiable view of the internships on the displayed page, updated only on the JavaFX Application
+     * Thread.
+     */
+    public ObservableList<Internship> getDisplayedInternshipList() {
+        return FXCollections.unmodifiableObservableList(displayedInternships);
+    }
+
+    /**
+     * Returns the position of the first internship on the displayed page within the filtered internship list.
+     * It is updated before {@link #getDisplayedInternshipList()} when the page changes.
+     */
+    public ReadOnlyIntegerProperty displayedPageOffsetProperty() {
+        return displayedPageOffset.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the selected internship, or null if there is none, updated only on the JavaFX Application Thread.
+     * Listeners are only notified when a different internship object is selected.
+     */
+    public ReadOnlyObjectProperty<Internship> displayedSelectedInternshipProperty() {
+        return displayedSelectedInternship.getReadOnlyProperty();
+    }
+
+    /** Returns the number of submitted commands whose results have not been published yet. */
+    public ReadOnlyIntegerProperty pendingCountProperty() {
+        return pendingCount.getReadOnlyProperty();
+    }
+
+    /**
+     * Stops accepting commands and waits for the commands already submitted to finish executing.
+     */
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still running after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Represents work run on the worker thread.
+     */
+    @FunctionalInterface
+    private interface Task<T> {
+        T call() throws Exception;
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.InternshipLogic;
+import seedu.address.logic.commands.InternshipDueCommand;
+import seedu.address.model.DeadlineIndex.DueTask;
+
+/**
+ * Reminds the user of the tasks that are due today or tomorrow, when it is started and again at the start of every
+ * day while the application is open.
+ * The tasks are looked up in the model's deadline index, which already groups tasks by the day they are due and is
+ * kept up to date as tasks are added, given deadlines and deleted. So each reminder only reads the two days it needs,
+ * and a single wake-up is scheduled per day however many tasks there are.
+ */
+public class DeadlineReminder {
+
+    /** The number of days, including today, whose tasks are included in a reminder. */
+    public static final int REMINDER_DAYS = 2;
+
+    public static final String MESSAGE_REMINDER = "Reminder: %1$d task(s) due today or tomorrow:%2$s";
+
+    private final Logger logger = LogsCenter.getLogger(DeadlineReminder.class);
+
+    private final CommandPipeline commandPipeline;
+    private final InternshipLogic logic;
+    private final Consumer<String> reminderHandler;
+    private final Executor fxExecutor;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a {@code DeadlineReminder} that looks up tasks with {@code logic} on the worker of
+     * {@code commandPipeline}, and passes each reminder to {@code reminderHandler} on the JavaFX Application Thread.
+     */
+    public DeadlineReminder(CommandPipeline commandPipeline, InternshipLogic logic,
+            Consumer<String> reminderHandler) {
+        this(commandPipeline, logic, reminderHandler, Platform::runLater, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code DeadlineReminder} that queues its look-ups from the thread that {@code fxExecutor} runs tasks
+     * on, and tells the date and the start of the next day with {@code clock}.
+     */
+    DeadlineReminder(CommandPipeline commandPipeline, InternshipLogic logic, Consumer<String> reminderHandler,
+            Executor fxExecutor, Clock clock) {
+        requireAllNonNull(commandPipeline, logic, reminderHandler, fxExecutor, clock);
+        this.commandPipeline = commandPipeline;
+        this.logic = logic;
+        this.reminderHandler = reminderHandler;
+        this.fxExecutor = fxExecutor;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "deadline-reminder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Reminds the user of the tasks due today or tomorrow, if there are any, and schedules the next reminder for the
+     * start of the next day.
+     * Must be called on the JavaFX Application Thread.
+     */
+    public void start() {
+        remind();
+    }
+
+    /**
+     * Looks up the tasks due today or tomorrow and schedules the next reminder.
+     * Must be called on the JavaFX Application Thread.
+     */
+    private void remind() {
+        if (scheduler.isShutdown()) {
+            return;
+        }
+        LocalDate today = LocalDate.now(clock);
+        commandPipeline.supply(() -> logic.getTasksDue(today, today.plusDays(REMINDER_DAYS - 1)))
+                .whenComplete((dueTasks, error) -> {
+                    if (error != null) {
+                        logger.warning("Failed to look up the tasks due: " + StringUtil.getDetails(error));
+                    } else if (!dueTasks.isEmpty()) {
+                        reminderHandler.accept(formatReminder(dueTasks));
+                    }
+                });
+
+        try {
+            scheduler.schedule(() -> fxExecutor.execute(this::remind),
+                    getMillisUntilNextDay(ZonedDateTime.now(clock)), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // the reminder has been shut down, so there is no next reminder
+        }
+    }
+
+    /**
+     * Returns the reminder of {@code dueTasks}.
+     */
+    static String formatReminder(List<DueTask> dueTasks) {
+        return String.format(MESSAGE_REMINDER, dueTasks.size(), InternshipDueCommand.formatDueTasks(dueTasks));
+    }
+
+    /**
+     * Returns the number of milliseconds from {@code now} to the start of the next day in its time zone.
+     */
+    static long getMillisUntilNextDay(ZonedDateTime now) {
+        ZonedDateTime startOfNextDay = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        return Duration.between(now, startOfNextDay).toMillis();
+    }
+
+    /**
+     * Stops reminding the user.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
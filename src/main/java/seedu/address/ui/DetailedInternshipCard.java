@@ -1,6 +1,11 @@
 package seedu.address.ui;
 
-import javafx.fxml.FXML;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.ui.CardLayout.BIG_LABEL_STYLE_CLASS;
+import static seedu.address.ui.CardLayout.SMALL_LABEL_STYLE_CLASS;
+import static seedu.address.ui.CardLayout.createLabel;
+import static seedu.address.ui.CardLayout.populateCardPane;
+
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
@@ -21,55 +26,91 @@ import seedu.address.model.internship.TaskList;
  */
 public class DetailedInternshipCard extends UiPart<Region> {
 
-    private static final String FXML = "DetailedInternshipCard.fxml";
     private static final String preferredFontSizeStyle = "-fx-font-size: 16px";
     private static final String titleFontSizeStyle = "-fx-font-size: 22px";
 
+    protected final Label companyNameAndRole = createLabel(BIG_LABEL_STYLE_CLASS);
+    protected final Label status = createLabel(BIG_LABEL_STYLE_CLASS);
+    protected final Label description = createLabel(SMALL_LABEL_STYLE_CLASS);
+    protected final Label loc = createLabel(SMALL_LABEL_STYLE_CLASS);
+    protected final Label cName = createLabel(SMALL_LABEL_STYLE_CLASS);
+    protected final Label cEmail = createLabel(SMALL_LABEL_STYLE_CLASS);
+    protected final Label cNum = createLabel(SMALL_LABEL_STYLE_CLASS);
+    protected final Label remark = createLabel(SMALL_LABEL_STYLE_CLASS);
+    protected final Label tasks = createLabel(SMALL_LABEL_STYLE_CLASS);
+
+    private Internship internship;
+
     /**
-     * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
-     * As a consequence, UI elements' variable names cannot be set to such keywords
-     * or an exception will be thrown by JavaFX during runtime.
-     *
-     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
+     * Creates an empty {@code DetailedInternshipCard}, to be filled in with {@link #setInternship(Internship)}.
      */
-
-    @FXML
-    protected HBox cardPane;
-    @FXML
-    protected Label companyNameAndRole;
-    @FXML
-    protected Label status;
-    @FXML
-    protected Label description;
-    @FXML
-    protected Label loc;
-    @FXML
-    protected Label cName;
-    @FXML
-    protected Label cEmail;
-    @FXML
-    protected Label cNum;
-    @FXML
-    protected Label remark;
-    @FXML
-    protected Label tasks;
+    public DetailedInternshipCard() {
+        this(new HBox());
+    }
 
     /**
-     * Creates a {@code InternshipCard} with the given {@code Internship}.
+     * Creates an empty {@code DetailedInternshipCard} with its labels laid out in {@code cardPane}.
      */
-    public DetailedInternshipCard(Internship internship) {
-        super(FXML);
+    private DetailedInternshipCard(HBox cardPane) {
+        super(cardPane);
+        populateCardPane(cardPane, new Label[] {companyNameAndRole}, status, description, loc,
+                cName, cEmail, cNum, remark, tasks);
         setStyles(true, companyNameAndRole, status, description, loc,
                 cName, cEmail, cNum, remark, tasks);
-        setCompanyNameAndRoleLabel(internship.getCompanyName(), internship.getRole());
-        setStatusLabel(internship.getApplicationStatus());
-        setDescriptionLabel(internship.getDescription());
-        setLocationLabel(internship.getLocation());
-        setContactNameLabel(internship.getContactName());
-        setContactEmailLabel(internship.getContactEmail());
-        setContactNumberLabel(internship.getContactNumber());
-        setRemarkLabel(internship.getRemark());
-        setTasksLabel(internship.getTaskList());
+    }
+
+    /**
+     * Creates a {@code DetailedInternshipCard} with the given {@code Internship}.
+     */
+    public DetailedInternshipCard(Internship internship) {
+        this();
+        setInternship(internship);
+    }
+
+    /**
+     * Displays the given {@code Internship} on this card.
+     * Only the labels of fields that differ from the internship displayed before are updated.
+     */
+    public void setInternship(Internship internship) {
+        requireNonNull(internship);
+        Internship previous = this.internship;
+        this.internship = internship;
+
+        if (previous == null || !previous.getCompanyName().equals(internship.getCompanyName())
+                || !previous.getRole().equals(internship.getRole())) {
+            setCompanyNameAndRoleLabel(internship.getCompanyName(), internship.getRole());
+        }
+        if (previous == null || !previous.getApplicationStatus().equals(internship.getApplicationStatus())) {
+            setStatusLabel(internship.getApplicationStatus());
+        }
+        if (previous == null || !previous.getDescription().equals(internship.getDescription())) {
+            setDescriptionLabel(internship.getDescription());
+        }
+        if (previous == null || !previous.getLocation().equals(internship.getLocation())) {
+            setLocationLabel(internship.getLocation());
+        }
+        if (previous == null || !previous.getContactName().equals(internship.getContactName())) {
+            setContactNameLabel(internship.getContactName());
+        }
+        if (previous == null || !previous.getContactEmail().equals(internship.getContactEmail())) {
+            setContactEmailLabel(internship.getContactEmail());
+        }
+        if (previous == null || !previous.getContactNumber().equals(internship.getContactNumber())) {
+            setContactNumberLabel(internship.getContactNumber());
+        }
+        if (previous == null || !previous.getRemark().equals(internship.getRemark())) {
+            setRemarkLabel(internship.getRemark());
+        }
+        if (previous == null || !previous.getTaskList().equals(internship.getTaskList())) {
+            setTasksLabel(internship.getTaskList());
+        }
+    }
+
+    /**
+     * Returns the internship displayed on this card, or null if the card is empty.
+     */
+    public Internship getInternship() {
+        return internship;
     }
 
     /**
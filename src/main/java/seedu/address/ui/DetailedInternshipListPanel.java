@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -24,13 +26,46 @@ public class DetailedInternshipListPanel extends UiPart<Region> {
         internshipListView.setCellFactory(listView -> new InternshipListViewCell());
     }
 
+    /**
+     * Creates a {@code DetailedInternshipListPanel} that shows the internship held by {@code internship}, if any.
+     * The panel is updated in constant time whenever a different internship object is held.
+     */
+    public DetailedInternshipListPanel(ObservableValue<Internship> internship) {
+        this(FXCollections.observableArrayList());
+        ObservableList<Internship> items = internshipListView.getItems();
+        // An invalidation listener is used as change listeners are not notified of edits that keep the
+        // internship equal, such as a new remark.
+        internship.addListener(observable -> showInternship(items, internship.getValue()));
+        showInternship(items, internship.getValue());
+    }
+
+    private static void showInternship(ObservableList<Internship> items, Internship internship) {
+        if (internship == null) {
+            items.clear();
+        } else if (items.isEmpty()) {
+            items.add(internship);
+        } else {
+            items.set(0, internship);
+        }
+    }
+
     protected ListView<Internship> getInternshipListView() {
         return internshipListView;
     }
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Internship} using a {@code InternshipCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Internship}
+     * using a {@code DetailedInternshipCard}.
+     * Each cell loads its card once and updates it whenever the internship it displays changes.
      */
     class InternshipListViewCell extends ListCell<Internship> {
+        private final DetailedInternshipCard card = new DetailedInternshipCard();
+
+        @Override
+        protected boolean isItemChanged(Internship oldItem, Internship newItem) {
+            // Internship#equals ignores some fields, so any other internship object is treated as a change.
+            return oldItem != newItem;
+        }
+
         @Override
         protected void updateItem(Internship internship, boolean empty) {
             super.updateItem(internship, empty);
@@ -39,7 +74,9 @@ public class DetailedInternshipListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DetailedInternshipCard(internship).getRoot());
+                card.setInternship(internship);
+                setText(null);
+                setGraphic(card.getRoot());
             }
         }
     }
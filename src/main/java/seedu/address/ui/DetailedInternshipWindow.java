@@ -1,10 +1,12 @@
 package seedu.address.ui;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.InternshipLogic;
+import seedu.address.model.internship.Internship;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -15,6 +17,7 @@ public class DetailedInternshipWindow extends UiPart<Stage> {
     private static final String FXML = "DetailedInternshipWindow.fxml";
     private Stage primaryStage;
     private InternshipLogic logic;
+    private ObservableValue<Internship> selectedInternship;
     private DetailedInternshipListPanel selectedInternshipListPanel;
 
     // Independent Ui parts residing in this Ui container
@@ -25,13 +28,16 @@ public class DetailedInternshipWindow extends UiPart<Stage> {
 
     /**
      * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * The window shows the internship in {@code selectedInternship}.
      */
-    public DetailedInternshipWindow(Stage primaryStage, InternshipLogic logic) {
+    public DetailedInternshipWindow(Stage primaryStage, InternshipLogic logic,
+            ObservableValue<Internship> selectedInternship) {
         super(FXML, new Stage());
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.selectedInternship = selectedInternship;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -40,9 +46,13 @@ public class DetailedInternshipWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills up all the placeholders of this window except for the internship list panel.
+     * Fills up all the placeholders of this window.
+     * The internship panel is created once and follows {@code selectedInternship} from then on.
      */
     void fillInnerParts() {
+        selectedInternshipListPanel = new DetailedInternshipListPanel(selectedInternship);
+        selectedInternshipListPanelPlaceholder.getChildren().add(selectedInternshipListPanel.getRoot());
+
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getInternshipDataFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
     }
@@ -80,12 +90,4 @@ public class DetailedInternshipWindow extends UiPart<Stage> {
     void show() {
         getRoot().show();
     }
-
-    /**
-     * Populates the detailed internship window with the selected internship details.
-     */
-    public void populateInternshipDetails() {
-        selectedInternshipListPanel = new DetailedInternshipListPanel(logic.getSelectedInternship());
-        selectedInternshipListPanelPlaceholder.getChildren().add(selectedInternshipListPanel.getRoot());
-    }
 }
@@ -0,0 +1,114 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import javafx.application.Platform;
+import seedu.address.logic.InternshipLogic;
+import seedu.address.logic.commands.InternshipFindCommand;
+
+/**
+ * Filters the internship list while a find command is being typed in the command box, so that the matching
+ * internships are shown before the command is entered.
+ * The query is only evaluated once the command text has not changed for {@link #DEBOUNCE_MILLIS} milliseconds,
+ * and an evaluation is abandoned as soon as the text changes again. Evaluations run on the command worker of the
+ * {@code CommandPipeline}, so they never block the JavaFX Application Thread.
+ */
+public class FindPreview {
+
+    public static final long DEBOUNCE_MILLIS = 150;
+
+    private static final String FIND_COMMAND_PREFIX = InternshipFindCommand.COMMAND_WORD + " ";
+
+    private final CommandPipeline commandPipeline;
+    private final InternshipLogic logic;
+    private final Executor fxExecutor;
+    private final ScheduledExecutorService scheduler;
+
+    // Incremented whenever the command text changes, which makes every evaluation queued before the change stale.
+    private final AtomicLong generation = new AtomicLong();
+    private ScheduledFuture<?> pendingEvaluation;
+    private boolean isShowing;
+
+    /**
+     * Creates a {@code FindPreview} that evaluates queries with {@code logic} on the worker of
+     * {@code commandPipeline}, and queues them from the JavaFX Application Thread with {@code Platform.runLater}.
+     */
+    public FindPreview(CommandPipeline commandPipeline, InternshipLogic logic) {
+        this(commandPipeline, logic, Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code FindPreview} that evaluates queries with {@code logic} on the worker of
+     * {@code commandPipeline}, and queues them from the thread that {@code fxExecutor} runs tasks on.
+     */
+    FindPreview(CommandPipeline commandPipeline, InternshipLogic logic, Executor fxExecutor) {
+        requireAllNonNull(commandPipeline, logic, fxExecutor);
+        this.commandPipeline = commandPipeline;
+        this.logic = logic;
+        this.fxExecutor = fxExecutor;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "find-preview");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Updates the preview for the new {@code commandText} of the command box.
+     * The preview is ended if {@code commandText} is not a find command.
+     * Must be called on the JavaFX Application Thread.
+     */
+    public void handleCommandTextChanged(String commandText) {
+        requireNonNull(commandText);
+        long currentGeneration = generation.incrementAndGet();
+        if (pendingEvaluation != null) {
+            pendingEvaluation.cancel(false);
+        }
+        if (!commandText.startsWith(FIND_COMMAND_PREFIX)) {
+            end();
+            return;
+        }
+
+        // The arguments keep their leading space, as the find command parser expects.
+        String findArgs = commandText.substring(InternshipFindCommand.COMMAND_WORD.length());
+        BooleanSupplier isStale = () -> generation.get() != currentGeneration;
+        isShowing = true;
+        pendingEvaluation = scheduler.schedule(() -> fxExecutor.execute(() -> {
+            if (!isStale.getAsBoolean()) {
+                commandPipeline.run(() -> logic.previewFind(findArgs, isStale));
+            }
+        }), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Abandons any pending evaluation and restores the internship list to how it was before the preview.
+     * Must be called on the JavaFX Application Thread.
+     */
+    public void end() {
+        generation.incrementAndGet();
+        if (pendingEvaluation != null) {
+            pendingEvaluation.cancel(false);
+            pendingEvaluation = null;
+        }
+        if (isShowing) {
+            isShowing = false;
+            commandPipeline.run(logic::endFindPreview);
+        }
+    }
+
+    /**
+     * Stops scheduling evaluations.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
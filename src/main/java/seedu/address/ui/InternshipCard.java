@@ -1,6 +1,12 @@
 package seedu.address.ui;
 
-import javafx.fxml.FXML;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.ui.CardLayout.BIG_LABEL_STYLE_CLASS;
+import static seedu.address.ui.CardLayout.SMALL_LABEL_STYLE_CLASS;
+import static seedu.address.ui.CardLayout.createLabel;
+import static seedu.address.ui.CardLayout.createWrappingLabel;
+import static seedu.address.ui.CardLayout.populateCardPane;
+
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
@@ -26,42 +32,50 @@ public class InternshipCard extends UiPart<Region> {
     protected static final String STYLE_WITH_FONT_COLOUR_YELLOW = "-fx-text-fill: #ffff00;";
     protected static final String STYLE_WITH_FONT_COLOUR_CYAN = "-fx-text-fill: #00ffff;";
     protected static final String STYLE_WITH_FONT_COLOUR_LIGHTSEAGREEN = "-fx-text-fill: #20b2aa;";
-    private static final String FXML = "InternshipCard.fxml";
 
-    public final Internship internship;
+    private final Label id = createLabel(BIG_LABEL_STYLE_CLASS);
+    private final Label companyNameAndRole = createWrappingLabel(BIG_LABEL_STYLE_CLASS);
+    private final Label status = createLabel(BIG_LABEL_STYLE_CLASS);
+    private final Label description = createWrappingLabel(SMALL_LABEL_STYLE_CLASS);
+    private final Label loc = createLabel(SMALL_LABEL_STYLE_CLASS);
+    private final Label poc = createWrappingLabel(SMALL_LABEL_STYLE_CLASS);
+    private final Label remark = createLabel(SMALL_LABEL_STYLE_CLASS);
+    private final Label tasks = createLabel(SMALL_LABEL_STYLE_CLASS);
+
+    private Internship internship;
+
     /**
-     * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
-     * As a consequence, UI elements' variable names cannot be set to such keywords
-     * or an exception will be thrown by JavaFX during runtime.
-     *
-     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
+     * Creates an empty {@code InternshipCard}, to be filled in with {@link #setInternship(Internship, int)}.
      */
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label id;
-    @FXML
-    private Label companyNameAndRole;
-    @FXML
-    private Label status;
-    @FXML
-    private Label description;
-    @FXML
-    private Label loc;
-    @FXML
-    private Label poc;
-    @FXML
-    private Label remark;
-    @FXML
-    private Label tasks;
-
+    public InternshipCard() {
+        this(new HBox());
+    }
 
+    /**
+     * Creates an empty {@code InternshipCard} with its labels laid out in {@code cardPane}.
+     * The nodes are built in code, as a card is created for every visible list cell.
+     */
+    private InternshipCard(HBox cardPane) {
+        super(cardPane);
+        // Ensures that the label text is never truncated
+        id.setMinWidth(Region.USE_PREF_SIZE);
+        populateCardPane(cardPane, new Label[] {id, companyNameAndRole}, status, description, loc, poc, remark, tasks);
+    }
 
     /**
      * Creates a {@code InternshipCard} with the given {@code Internship} and index to display.
      */
     public InternshipCard(Internship internship, int displayedIndex) {
-        super(FXML);
+        this();
+        setInternship(internship, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Internship} and index on this card, replacing what was displayed before.
+     * Only the texts and styles of the existing labels are changed, so a card can be reused for many internships.
+     */
+    public void setInternship(Internship internship, int displayedIndex) {
+        requireNonNull(internship);
         this.internship = internship;
 
         id.setText(displayedIndex + ". ");
@@ -74,6 +88,13 @@ public class InternshipCard extends UiPart<Region> {
         setTasksLabel(internship.getTaskList());
     }
 
+    /**
+     * Returns the internship displayed on this card, or null if the card is empty.
+     */
+    public Internship getInternship() {
+        return internship;
+    }
+
     /**
      * Sets the POC label to the given contact details.
      *
@@ -127,12 +148,13 @@ public class InternshipCard extends UiPart<Region> {
     }
 
     /**
-     * Sets the remark label to the given remark.
+     * Sets the remark label to the given remark, or to its preview if the remark is lazy, so that a long remark
+     * kept out of memory does not need to be loaded.
      *
      * @param remark remark of the internship
      */
     private void setRemarkLabel(Remark remark) {
-        this.remark.setText("Remark: " + remark.toString());
+        this.remark.setText("Remark: " + (remark.isInMemory() ? remark.toString() : remark.getPreview()));
     }
 
     /**
@@ -2,8 +2,11 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ObservableIntegerValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.input.MouseEvent;
@@ -15,10 +18,14 @@ import seedu.address.model.internship.Internship;
  * Panel containing the list of internships.
  */
 public class InternshipListPanel extends UiPart<Region> {
+    public static final String MESSAGE_LOADING = "Loading internships...";
+
     private static Internship lastSelectedInternship;
     private static final String FXML = "InternshipListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(InternshipListPanel.class);
 
+    private final ObservableIntegerValue indexOffset;
+
     @FXML
     private ListView<Internship> internshipListView;
 
@@ -26,9 +33,27 @@ public class InternshipListPanel extends UiPart<Region> {
      * Creates a {@code InternshipListPanel} with the given {@code ObservableList}.
      */
     public InternshipListPanel(ObservableList<Internship> internshipList) {
+        this(internshipList, new SimpleIntegerProperty(0));
+    }
+
+    /**
+     * Creates a {@code InternshipListPanel} with the given {@code ObservableList}, which is a page of a longer list
+     * that starts at position {@code indexOffset} of the longer list.
+     * The internships are numbered by their positions in the longer list.
+     */
+    public InternshipListPanel(ObservableList<Internship> internshipList, ObservableIntegerValue indexOffset) {
         super(FXML);
+        this.indexOffset = indexOffset;
         internshipListView.setItems(internshipList);
         internshipListView.setCellFactory(listView -> new InternshipListViewCell());
+        indexOffset.addListener(observable -> internshipListView.refresh());
+    }
+
+    /**
+     * Shows a placeholder in place of the empty list while the internships are being loaded, or removes it.
+     */
+    public void setLoading(boolean isLoading) {
+        internshipListView.setPlaceholder(isLoading ? new Label(MESSAGE_LOADING) : null);
     }
 
     /**
@@ -47,8 +72,11 @@ public class InternshipListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Internship} using a {@code InternshipCard}.
+     * Each cell loads its card once and reuses it for every internship that the cell displays while scrolling.
      */
     class InternshipListViewCell extends ListCell<Internship> {
+        private final InternshipCard card = new InternshipCard();
+
         public InternshipListViewCell() {
             setOnMousePressed((MouseEvent event) -> {
                 lastSelectedInternship = getItem();
@@ -56,6 +84,12 @@ public class InternshipListPanel extends UiPart<Region> {
             });
         }
 
+        @Override
+        protected boolean isItemChanged(Internship oldItem, Internship newItem) {
+            // Internship#equals ignores some fields, so any other internship object is treated as a change.
+            return oldItem != newItem;
+        }
+
         @Override
         protected void updateItem(Internship internship, boolean empty) {
             super.updateItem(internship, empty);
@@ -64,7 +98,9 @@ public class InternshipListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new InternshipCard(internship, getIndex() + 1).getRoot());
+                card.setInternship(internship, indexOffset.get() + getIndex() + 1);
+                setText(null);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -13,10 +15,10 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.InternshipLogic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.internship.Internship;
 
 /**
@@ -25,16 +27,24 @@ import seedu.address.model.internship.Internship;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_LOADING_FAILED =
+            "The data file could not be loaded, so commands are disabled to keep it from being overwritten.";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private InternshipLogic logic;
+    private CommandPipeline commandPipeline;
+    private FindPreview findPreview;
+    private DeadlineReminder deadlineReminder;
 
     // Independent Ui parts residing in this Ui container
     private InternshipListPanel internshipListPanel;
     private ResultDisplay resultDisplay;
+
+    // Secondary windows, created the first time they are opened
     private HelpWindow helpWindow;
     private DetailedInternshipWindow detailedInternshipWindow;
 
@@ -62,16 +72,16 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandPipeline = new CommandPipeline(logic);
+        this.findPreview = new FindPreview(commandPipeline, logic);
+        this.deadlineReminder = new DeadlineReminder(commandPipeline, logic,
+                reminder -> resultDisplay.setFeedbackToUser(reminder));
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
 
         setAccelerators();
 
-        helpWindow = new HelpWindow();
-
-        detailedInternshipWindow = new DetailedInternshipWindow(primaryStage, logic);
-
         internshipListPanelPlaceholder.addEventFilter(MouseEvent.MOUSE_CLICKED, event -> handleMouseClick());
 
     }
@@ -86,8 +96,8 @@ public class MainWindow extends UiPart<Stage> {
         if (selectedInternship == null) { // no internship selected, clicked on empty space
             return;
         }
-        logic.setSelectedInternship(selectedInternship);
-        showSelectedInternshipDetails();
+        commandPipeline.run(() -> logic.setSelectedInternship(selectedInternship))
+                .thenRun(this::showSelectedInternshipDetails);
         logger.info("User clicked on internship: " + selectedInternship);
     }
     /**
@@ -95,14 +105,36 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     private void showSelectedInternshipDetails() {
-        detailedInternshipWindow.populateInternshipDetails();
-        if (!detailedInternshipWindow.isShowing()) {
+        DetailedInternshipWindow window = getDetailedInternshipWindow();
+        if (!window.isShowing()) {
             System.out.println("showing");
-            detailedInternshipWindow.show();
+            window.show();
         } else {
             System.out.println("focusing");
-            detailedInternshipWindow.focus();
+            window.focus();
+        }
+    }
+
+    /**
+     * Returns the detailed internship window, creating it the first time it is needed.
+     */
+    private DetailedInternshipWindow getDetailedInternshipWindow() {
+        if (detailedInternshipWindow == null) {
+            detailedInternshipWindow = UiManager.createTimed("DetailedInternshipWindow", () ->
+                    new DetailedInternshipWindow(primaryStage, logic,
+                            commandPipeline.displayedSelectedInternshipProperty()));
+        }
+        return detailedInternshipWindow;
+    }
+
+    /**
+     * Returns the help window, creating it the first time it is needed.
+     */
+    private HelpWindow getHelpWindow() {
+        if (helpWindow == null) {
+            helpWindow = UiManager.createTimed("HelpWindow", HelpWindow::new);
         }
+        return helpWindow;
     }
 
     public Stage getPrimaryStage() {
@@ -147,19 +179,51 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        internshipListPanel = new InternshipListPanel(logic.getFilteredInternshipList());
+        internshipListPanel = UiManager.createTimed("InternshipListPanel", () ->
+                new InternshipListPanel(commandPipeline.getDisplayedInternshipList(),
+                        commandPipeline.displayedPageOffsetProperty()));
         internshipListPanelPlaceholder.getChildren().add(internshipListPanel.getRoot());
 
-        resultDisplay = new ResultDisplay();
+        resultDisplay = UiManager.createTimed("ResultDisplay", ResultDisplay::new);
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getInternshipDataFilePath());
+        StatusBarFooter statusBarFooter = UiManager.createTimed("StatusBarFooter", () ->
+                new StatusBarFooter(logic.getInternshipDataFilePath()));
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = UiManager.createTimed("CommandBox", () ->
+                new CommandBox(this::executeCommand, commandPipeline.pendingCountProperty(),
+                        findPreview::handleCommandTextChanged, logic::getCompletions));
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Shows a loading placeholder in the internship list until {@code internshipData} is ready, then loads it into
+     * the logic on the command worker. Commands entered in the meantime are run after the data is loaded.
+     * Reminders of the tasks due soon start once the data is loaded. If it cannot be loaded, commands are refused.
+     */
+    void loadInternshipData(CompletableFuture<ReadOnlyInternshipData> internshipData) {
+        internshipListPanel.setLoading(true);
+        commandPipeline.run(() -> {
+            try {
+                logic.loadInternshipData(internshipData.join());
+            } catch (RuntimeException | Error e) {
+                // refused on the worker, so that no command queued behind the load can save the empty model
+                logic.setDataLoadFailed();
+                throw e;
+            }
+        })
+                .whenComplete((unused, error) -> {
+                    internshipListPanel.setLoading(false);
+                    if (error != null) {
+                        logger.severe("Failed to load internship data: " + StringUtil.getDetails(error));
+                        resultDisplay.setFeedbackToUser(MESSAGE_LOADING_FAILED);
+                    } else {
+                        deadlineReminder.start();
+                    }
+                });
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -177,10 +241,11 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
-        if (!helpWindow.isShowing()) {
-            helpWindow.show();
+        HelpWindow window = getHelpWindow();
+        if (!window.isShowing()) {
+            window.show();
         } else {
-            helpWindow.focus();
+            window.focus();
         }
     }
 
@@ -195,10 +260,18 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
+        // Waits for queued commands so that their changes are saved before the application stops.
+        findPreview.shutdown();
+        deadlineReminder.shutdown();
+        commandPipeline.shutdown();
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
         primaryStage.hide();
-        detailedInternshipWindow.hide();
+        if (detailedInternshipWindow != null) {
+            detailedInternshipWindow.hide();
+        }
     }
 
     public InternshipListPanel getInternshipListPanel() {
@@ -206,13 +279,20 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the internship command and returns the result.
+     * Queues the internship command for execution and returns a future of the result.
+     * The result is shown once the command has run, in the order the commands were entered.
      *
      * @see seedu.address.logic.InternshipLogic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandPipeline.submit(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(cause.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -223,12 +303,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -11,6 +13,7 @@ import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.InternshipLogic;
+import seedu.address.model.ReadOnlyInternshipData;
 
 /**
  * The manager of the UI component.
@@ -23,13 +26,16 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/logo.png";
 
     private InternshipLogic logic;
+    private CompletableFuture<ReadOnlyInternshipData> initialData;
     private MainWindow mainWindow;
 
     /**
      * Creates a {@code UiManager} with the given {@code InternshipLogic}.
+     * {@code initialData} is loaded into the logic once the main window is shown and the data is ready.
      */
-    public UiManager(InternshipLogic logic) {
+    public UiManager(InternshipLogic logic, CompletableFuture<ReadOnlyInternshipData> initialData) {
         this.logic = logic;
+        this.initialData = initialData;
     }
 
     @Override
@@ -40,9 +46,12 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            long start = System.nanoTime();
+            mainWindow = createTimed("MainWindow", () -> new MainWindow(primaryStage, logic));
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            mainWindow.loadInternshipData(initialData);
+            logger.info("UI started in " + toMillis(System.nanoTime() - start) + " ms");
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +59,20 @@ public class UiManager implements Ui {
         }
     }
 
+    /**
+     * Returns the UI part created by {@code factory}, logging how long it took to create it under {@code name}.
+     */
+    static <T> T createTimed(String name, Supplier<T> factory) {
+        long start = System.nanoTime();
+        T part = factory.get();
+        logger.info("Created " + name + " in " + toMillis(System.nanoTime() - start) + " ms");
+        return part;
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
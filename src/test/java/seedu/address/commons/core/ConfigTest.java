@@ -12,7 +12,10 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", metricsFilePath=" + config.getMetricsFilePath()
+                + ", metricsIntervalSeconds=" + config.getMetricsIntervalSeconds()
+                + ", lazyRemarkLength=" + config.getLazyRemarkLength() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,88 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void record_recordsUnderCommandWordAndPhase() {
+        metrics.record("list", CommandPhase.PARSE, 1000);
+        metrics.record("list", CommandPhase.PARSE, 2000);
+        assertEquals(2, metrics.getHistogram("list", CommandPhase.PARSE).getCount());
+        assertEquals(0, metrics.getHistogram("list", CommandPhase.EXECUTE).getCount());
+        assertEquals(0, metrics.getHistogram("find", CommandPhase.PARSE).getCount());
+    }
+
+    @Test
+    public void trace_recordsEndedPhasesOnClose() {
+        try (CommandMetrics.Trace trace = metrics.startTrace()) {
+            trace.setCommandWord("add");
+            trace.endPhase(CommandPhase.PARSE);
+            trace.endPhase(CommandPhase.EXECUTE);
+            assertEquals(0, metrics.getHistogram("add", CommandPhase.PARSE).getCount());
+        }
+
+        assertEquals(1, metrics.getHistogram("add", CommandPhase.PARSE).getCount());
+        assertEquals(1, metrics.getHistogram("add", CommandPhase.EXECUTE).getCount());
+        assertEquals(0, metrics.getHistogram("add", CommandPhase.PERSIST).getCount());
+    }
+
+    @Test
+    public void trace_withoutCommandWord_recordsUnderUnparsed() {
+        try (CommandMetrics.Trace trace = metrics.startTrace()) {
+            trace.endPhase(CommandPhase.PARSE);
+        }
+        assertEquals(1, metrics.getHistogram(CommandMetrics.UNPARSED_COMMAND_WORD, CommandPhase.PARSE).getCount());
+    }
+
+    @Test
+    public void recordNested_takenOutOfRunningPhase() throws Exception {
+        long nestedNanos = 5_000_000;
+        try (CommandMetrics.Trace trace = metrics.startTrace()) {
+            trace.setCommandWord("find");
+            Thread.sleep(10);
+            metrics.recordNested(CommandPhase.FILTER_SORT, nestedNanos);
+            trace.endPhase(CommandPhase.EXECUTE);
+        }
+
+        assertEquals(nestedNanos, metrics.getHistogram("find", CommandPhase.FILTER_SORT).getMaxNanos());
+        long executeNanos = metrics.getHistogram("find", CommandPhase.EXECUTE).getMaxNanos();
+        assertTrue(executeNanos >= 10_000_000 - nestedNanos - 1_000_000);
+    }
+
+    @Test
+    public void recordNested_noTrace_ignored() {
+        metrics.recordNested(CommandPhase.FILTER_SORT, 1000);
+        assertEquals("", metrics.getReport());
+    }
+
+    @Test
+    public void getReport() {
+        assertEquals("", metrics.getReport());
+
+        metrics.record("list", CommandPhase.PARSE, 2_000_000);
+        metrics.record("find", CommandPhase.FILTER_SORT, 1_000_000);
+        String report = metrics.getReport();
+        String[] lines = report.split(System.lineSeparator());
+
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("command"));
+        assertTrue(lines[1].startsWith("find") && lines[1].contains("filter/sort"));
+        assertTrue(lines[2].startsWith("list") && lines[2].contains("parse") && lines[2].contains("2.000"));
+        assertFalse(report.contains("persist"));
+    }
+
+    @Test
+    public void clear_removesAllTimings() {
+        metrics.record("list", CommandPhase.PARSE, 1000);
+        metrics.clear();
+        assertEquals(0, metrics.getHistogram("list", CommandPhase.PARSE).getCount());
+        assertEquals("", metrics.getReport());
+    }
+}
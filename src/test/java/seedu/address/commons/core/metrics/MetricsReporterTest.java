@@ -0,0 +1,50 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+
+public class MetricsReporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeReport_nothingRecorded_noFileWritten() {
+        Path filePath = testFolder.resolve("metrics.txt");
+        new MetricsReporter(new CommandMetrics(), filePath, 0).writeReport();
+        assertFalse(FileUtil.isFileExists(filePath));
+    }
+
+    @Test
+    public void writeReport_timingsRecorded_reportWritten() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record("list", CommandPhase.PARSE, 1000);
+        Path filePath = testFolder.resolve("metrics.txt");
+
+        new MetricsReporter(metrics, filePath, 0).writeReport();
+
+        String content = FileUtil.readFromFile(filePath);
+        assertTrue(content.startsWith("Command metrics at "));
+        assertTrue(content.contains(metrics.getReport()));
+    }
+
+    @Test
+    public void stop_notStarted_writesReport() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record("list", CommandPhase.PARSE, 1000);
+        Path filePath = testFolder.resolve("metrics.txt");
+
+        MetricsReporter reporter = new MetricsReporter(metrics, filePath, 0);
+        reporter.start();
+        reporter.stop();
+
+        assertTrue(FileUtil.isFileExists(filePath));
+    }
+}
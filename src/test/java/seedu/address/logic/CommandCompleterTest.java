@@ -0,0 +1,49 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+
+public class CommandCompleterTest {
+
+    private final CommandCompleter completer = new CommandCompleter(
+            new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs()));
+
+    @Test
+    public void complete_commandWord_returnsMatchingCommandWords() {
+        assertEquals(List.of("delete ", "deletetask "), completer.complete("del"));
+        assertEquals(List.of("find "), completer.complete("fi"));
+        assertEquals(List.of(), completer.complete("xyz"));
+    }
+
+    @Test
+    public void complete_prefix_returnsMatchingPrefixes() {
+        assertEquals(List.of("find withall /remark ", "find withall /role "), completer.complete("find withall /r"));
+        assertEquals(List.of("add /com "), completer.complete("add /c"));
+    }
+
+    @Test
+    public void complete_valueAfterValuePrefix_returnsMatchingValues() {
+        assertEquals(List.of("find withall /com Google"), completer.complete("find withall /com goo"));
+        assertEquals(List.of("add /com Apple /role Backend Engineer"),
+                completer.complete("add /com Apple /role Backend E"));
+    }
+
+    @Test
+    public void complete_valueAfterOtherPrefix_returnsEmptyList() {
+        assertEquals(List.of(), completer.complete("find withall /loc rem"));
+        assertEquals(List.of(), completer.complete("find withall goo"));
+    }
+
+    @Test
+    public void complete_blank_returnsEmptyList() {
+        assertEquals(List.of(), completer.complete(""));
+        assertEquals(List.of(), completer.complete("   "));
+    }
+}
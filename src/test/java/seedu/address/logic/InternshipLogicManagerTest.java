@@ -1,21 +1,29 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_INTERNSHIP_DISPLAYED_INDEX;
 import static seedu.address.logic.InternshipMessages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
 import static seedu.address.testutil.TypicalInternships.AMY;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.CommandPhase;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.InternshipListCommand;
+import seedu.address.logic.commands.InternshipUndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.InternshipModel;
@@ -23,6 +31,7 @@ import seedu.address.model.InternshipModelManager;
 import seedu.address.model.InternshipUserPrefs;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.internship.Internship;
+import seedu.address.storage.InternshipDataSaver;
 import seedu.address.storage.InternshipStorageManager;
 import seedu.address.storage.JsonInternshipDataStorage;
 import seedu.address.storage.JsonInternshipUserPrefsStorage;
@@ -67,6 +76,39 @@ public class InternshipLogicManagerTest {
         assertCommandSuccess(listCommand, InternshipListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommand_recordsPhaseTimings() throws Exception {
+        CommandMetrics metrics = CommandMetrics.getInstance();
+        long parseCount = metrics.getHistogram(InternshipListCommand.COMMAND_WORD, CommandPhase.PARSE).getCount();
+        long persistCount = metrics.getHistogram(InternshipListCommand.COMMAND_WORD, CommandPhase.PERSIST).getCount();
+
+        logic.execute(InternshipListCommand.COMMAND_WORD);
+
+        assertEquals(parseCount + 1,
+                metrics.getHistogram(InternshipListCommand.COMMAND_WORD, CommandPhase.PARSE).getCount());
+        assertEquals(persistCount + 1,
+                metrics.getHistogram(InternshipListCommand.COMMAND_WORD, CommandPhase.PERSIST).getCount());
+    }
+
+    @Test
+    public void execute_afterDataLoadFailed_throwsCommandExceptionWithoutSaving() {
+        logic.setDataLoadFailed();
+        assertCommandException(InternshipListCommand.COMMAND_WORD, InternshipLogicManager.MESSAGE_DATA_NOT_LOADED);
+        assertFalse(Files.exists(temporaryFolder.resolve("internshipdata.json")));
+    }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals("find", InternshipLogicManager.getCommandWord("  find  google microsoft"));
+        assertEquals("list", InternshipLogicManager.getCommandWord("list"));
+    }
+
+    @Test
+    public void execute_undoAfterAdd_restoresPreviousData() throws Exception {
+        logic.execute(InternshipUtil.getAddCommand(AMY));
+        assertCommandSuccess(InternshipUndoCommand.COMMAND_WORD, InternshipUndoCommand.MESSAGE_SUCCESS,
+                new InternshipModelManager());
+    }
 
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
@@ -81,6 +123,52 @@ public class InternshipLogicManagerTest {
                 InternshipLogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_withSaver_savesSnapshotInBackground() throws Exception {
+        JsonInternshipDataStorage internshipDataStorage =
+                new JsonInternshipDataStorage(temporaryFolder.resolve("internshipdata.json"));
+        InternshipStorageManager storage = new InternshipStorageManager(internshipDataStorage,
+                new JsonInternshipUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        InternshipDataSaver saver = new InternshipDataSaver(storage);
+        logic = new InternshipLogicManager(model, storage, saver);
+
+        logic.execute(InternshipUtil.getAddCommand(AMY));
+        saver.shutdown();
+
+        assertEquals(List.of(AMY), storage.readInternshipData().get().getInternshipList());
+    }
+
+    @Test
+    public void previewFind_validArgs_filtersUntilEnded() {
+        model.addInternship(ALICE_MICROSOFT);
+        model.addInternship(BENSON_GOOGLE);
+
+        logic.previewFind(" withall /com Google", () -> false);
+        assertEquals(List.of(BENSON_GOOGLE), logic.getFilteredInternshipList());
+
+        // invalid arguments leave the preview as it is
+        logic.previewFind(" withall /com", () -> false);
+        assertEquals(List.of(BENSON_GOOGLE), logic.getFilteredInternshipList());
+
+        // a refinement is looked for among the previewed internships only
+        logic.previewFind(" withall /com Google /loc remote", () -> false);
+        assertEquals(List.of(), logic.getFilteredInternshipList());
+
+        logic.previewFind(" withall /com Microsoft", () -> false);
+        assertEquals(List.of(ALICE_MICROSOFT), logic.getFilteredInternshipList());
+
+        logic.endFindPreview();
+        assertEquals(List.of(ALICE_MICROSOFT, BENSON_GOOGLE), logic.getFilteredInternshipList());
+    }
+
+    @Test
+    public void execute_duringFindPreview_endsPreviewFirst() throws Exception {
+        model.addInternship(ALICE_MICROSOFT);
+        logic.previewFind(" withall /com Google", () -> false);
+        logic.execute(InternshipUtil.getAddCommand(AMY));
+        assertEquals(List.of(ALICE_MICROSOFT, AMY), logic.getFilteredInternshipList());
+    }
+
     @Test
     public void getFilteredInternshipList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredInternshipList().remove(0));
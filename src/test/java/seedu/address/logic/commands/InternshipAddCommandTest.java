@@ -8,22 +8,31 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalInternships.HOON_APPLE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.InternshipMessages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.DeadlineIndex;
+import seedu.address.model.InternshipColumnStore;
 import seedu.address.model.InternshipData;
 import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipValueIndex;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.ReadOnlyInternshipUserPrefs;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.util.PersistentVector;
 import seedu.address.testutil.InternshipBuilder;
 
 public class InternshipAddCommandTest {
@@ -130,11 +139,21 @@ public class InternshipAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void loadInternshipData(ReadOnlyInternshipData newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyInternshipData getInternshipData() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersistentVector<Internship> getInternshipSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasInternship(Internship internship) {
             throw new AssertionError("This method should not be called.");
@@ -150,6 +169,42 @@ public class InternshipAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Internship> deleteInternships(Predicate<Internship> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Internship> editInternships(Predicate<Internship> predicate,
+                UnaryOperator<Internship> editor) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitInternshipData() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoInternshipData() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoInternshipData() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoInternshipData() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoInternshipData() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Internship> getFilteredInternshipList() {
             throw new AssertionError("This method should not be called.");
@@ -160,6 +215,32 @@ public class InternshipAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<String> getValueSuggestions(InternshipValueIndex.Field field, String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<DeadlineIndex.DueTask> getTasksDue(LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public InternshipColumnStore getInternshipColumnStore() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Internship> getFilteredInternshipPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean previewFilteredInternshipList(Predicate<Internship> predicate, boolean isRefinement,
+                BooleanSupplier isCancelled) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortFilteredInternshipList(Comparator<Internship> comparator) {
             throw new AssertionError("This method should not be called.");
@@ -169,7 +250,32 @@ public class InternshipAddCommandTest {
         }
 
         @Override
-        public ObservableList<Internship> getSelectedInternship() {
+        public Internship getSelectedInternship() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyObjectProperty<Internship> selectedInternshipProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Internship> getInternshipPage() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getPageIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getPageCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPageIndex(int pageIndex) {
             throw new AssertionError("This method should not be called.");
         }
     }
@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.InternshipMessages;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the InternshipModel) and unit tests for
+ * {@code InternshipBulkDeleteCommand}.
+ */
+public class InternshipBulkDeleteCommandTest {
+
+    private final InternshipModel model = new InternshipModelManager(getTypicalInternshipData(),
+            new InternshipUserPrefs());
+
+    @Test
+    public void execute_matchingInternships_success() {
+        InternshipContainsKeywordsPredicate predicate = preparePredicate("pending rejected");
+        InternshipBulkDeleteCommand bulkDeleteCommand = new InternshipBulkDeleteCommand(predicate);
+
+        InternshipModel expectedModel = new InternshipModelManager(model.getInternshipData(),
+                new InternshipUserPrefs());
+        long matchCount = model.getFilteredInternshipList().stream().filter(predicate).count();
+        for (Internship internship : model.getFilteredInternshipList()) {
+            if (predicate.test(internship)) {
+                expectedModel.deleteInternship(internship);
+            }
+        }
+
+        String expectedMessage = String.format(InternshipBulkDeleteCommand.MESSAGE_DELETE_INTERNSHIPS_SUCCESS,
+                matchCount);
+        assertTrue(matchCount > 1);
+        assertCommandSuccess(bulkDeleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMatchingInternships_throwsCommandException() {
+        InternshipBulkDeleteCommand bulkDeleteCommand = new InternshipBulkDeleteCommand(preparePredicate("accepted"));
+
+        assertCommandFailure(bulkDeleteCommand, model, InternshipMessages.MESSAGE_NO_INTERNSHIPS_MATCHED);
+    }
+
+    @Test
+    public void equals() {
+        InternshipBulkDeleteCommand deletePendingCommand = new InternshipBulkDeleteCommand(preparePredicate("pending"));
+        InternshipBulkDeleteCommand deleteRejectedCommand =
+                new InternshipBulkDeleteCommand(preparePredicate("rejected"));
+
+        // same object -> returns true
+        assertTrue(deletePendingCommand.equals(deletePendingCommand));
+
+        // same values -> returns true
+        assertTrue(deletePendingCommand.equals(new InternshipBulkDeleteCommand(preparePredicate("pending"))));
+
+        // different types -> returns false
+        assertFalse(deletePendingCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(deletePendingCommand.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(deletePendingCommand.equals(deleteRejectedCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        InternshipContainsKeywordsPredicate predicate = preparePredicate("pending");
+        InternshipBulkDeleteCommand bulkDeleteCommand = new InternshipBulkDeleteCommand(predicate);
+        String expected = InternshipBulkDeleteCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, bulkDeleteCommand.toString());
+    }
+
+    /**
+     * Parses {@code statuses} into an {@code InternshipContainsKeywordsPredicate} on the application status.
+     */
+    private InternshipContainsKeywordsPredicate preparePredicate(String statuses) {
+        return new InternshipContainsKeywordsPredicate(null, null, null, statuses, null, null, null, true);
+    }
+}
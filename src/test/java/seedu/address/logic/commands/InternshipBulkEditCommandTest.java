@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.DESC_AMY;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.DESC_BOB;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.InternshipMessages;
+import seedu.address.logic.commands.InternshipEditCommand.EditInternshipDescriptor;
+import seedu.address.model.InternshipData;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipContainsKeywordsPredicate;
+import seedu.address.testutil.EditInternshipDescriptorBuilder;
+import seedu.address.testutil.InternshipBuilder;
+
+/**
+ * Contains integration tests (interaction with the InternshipModel) and unit tests for
+ * {@code InternshipBulkEditCommand}.
+ */
+public class InternshipBulkEditCommandTest {
+
+    private final InternshipModel model = new InternshipModelManager(getTypicalInternshipData(),
+            new InternshipUserPrefs());
+
+    @Test
+    public void execute_matchingInternships_success() {
+        InternshipContainsKeywordsPredicate predicate = preparePredicate("pending rejected");
+        EditInternshipDescriptor descriptor = new EditInternshipDescriptorBuilder().withLocation("remote").build();
+        InternshipBulkEditCommand bulkEditCommand = new InternshipBulkEditCommand(predicate, descriptor);
+
+        InternshipModel expectedModel = new InternshipModelManager(new InternshipData(model.getInternshipData()),
+                new InternshipUserPrefs());
+        long matchCount = model.getFilteredInternshipList().stream().filter(predicate).count();
+        for (Internship internship : model.getFilteredInternshipList()) {
+            if (predicate.test(internship)) {
+                expectedModel.setInternship(internship,
+                        new InternshipBuilder(internship).withLocation("remote").build());
+            }
+        }
+
+        String expectedMessage = String.format(InternshipBulkEditCommand.MESSAGE_EDIT_INTERNSHIPS_SUCCESS,
+                matchCount);
+        assertTrue(matchCount > 1);
+        assertCommandSuccess(bulkEditCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMatchingInternships_throwsCommandException() {
+        EditInternshipDescriptor descriptor = new EditInternshipDescriptorBuilder().withLocation("remote").build();
+        InternshipBulkEditCommand bulkEditCommand =
+                new InternshipBulkEditCommand(preparePredicate("accepted"), descriptor);
+
+        assertCommandFailure(bulkEditCommand, model, InternshipMessages.MESSAGE_NO_INTERNSHIPS_MATCHED);
+    }
+
+    @Test
+    public void execute_editsCreateDuplicate_throwsCommandException() {
+        // every matching internship would become the same as BENSON_GOOGLE
+        EditInternshipDescriptor descriptor = new EditInternshipDescriptorBuilder(BENSON_GOOGLE).build();
+        InternshipBulkEditCommand bulkEditCommand =
+                new InternshipBulkEditCommand(preparePredicate("pending rejected"), descriptor);
+
+        assertCommandFailure(bulkEditCommand, model, InternshipEditCommand.MESSAGE_DUPLICATE_INTERNSHIP);
+    }
+
+    @Test
+    public void equals() {
+        InternshipContainsKeywordsPredicate predicate = preparePredicate("pending");
+        InternshipBulkEditCommand standardCommand = new InternshipBulkEditCommand(predicate, DESC_AMY.build());
+
+        // same values -> returns true
+        InternshipBulkEditCommand commandWithSameValues =
+                new InternshipBulkEditCommand(preparePredicate("pending"), DESC_AMY.build());
+        assertTrue(standardCommand.equals(commandWithSameValues));
+
+        // same object -> returns true
+        assertTrue(standardCommand.equals(standardCommand));
+
+        // null -> returns false
+        assertFalse(standardCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(standardCommand.equals(new InternshipClearCommand()));
+
+        // different predicate -> returns false
+        assertFalse(standardCommand.equals(new InternshipBulkEditCommand(preparePredicate("rejected"),
+                DESC_AMY.build())));
+
+        // different descriptor -> returns false
+        assertFalse(standardCommand.equals(new InternshipBulkEditCommand(predicate, DESC_BOB.build())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        InternshipContainsKeywordsPredicate predicate = preparePredicate("pending");
+        EditInternshipDescriptor descriptor = new EditInternshipDescriptor();
+        InternshipBulkEditCommand bulkEditCommand = new InternshipBulkEditCommand(predicate, descriptor);
+        String expected = InternshipBulkEditCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", editInternshipDescriptor=" + descriptor + "}";
+        assertEquals(expected, bulkEditCommand.toString());
+    }
+
+    /**
+     * Parses {@code statuses} into an {@code InternshipContainsKeywordsPredicate} on the application status.
+     */
+    private InternshipContainsKeywordsPredicate preparePredicate(String statuses) {
+        return new InternshipContainsKeywordsPredicate(null, null, null, statuses, null, null, null, true);
+    }
+}
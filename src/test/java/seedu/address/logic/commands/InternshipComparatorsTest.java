@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Comparator;
 
@@ -160,5 +161,32 @@ public class InternshipComparatorsTest {
         Internship internship2 = internshipBuilder.withRemark("bbb").build();
         assertEquals(1, comparator.compare(internship1, internship2));
     }
-}
 
+    @Test
+    public void byEarliestDeadline_ascComparator_correctOrder() {
+        Comparator<Internship> comparator = InternshipComparators.byEarliestDeadline(true);
+        Internship internship1 = internshipBuilder.withTaskList("Interview (13/03/2033); OA (01/02/2024)").build();
+        Internship internship2 = internshipBuilder.withTaskList("Interview (02/02/2024)").build();
+        Internship internship3 = internshipBuilder.withTaskList("Thank you email").build();
+        assertTrue(comparator.compare(internship1, internship2) < 0);
+        assertTrue(comparator.compare(internship2, internship3) < 0);
+    }
+
+    @Test
+    public void byEarliestDeadline_descComparator_noDeadlinesLast() {
+        Comparator<Internship> comparator = InternshipComparators.byEarliestDeadline(false);
+        Internship internship1 = internshipBuilder.withTaskList("Interview (13/03/2033); OA (01/02/2024)").build();
+        Internship internship2 = internshipBuilder.withTaskList("Interview (02/02/2024)").build();
+        Internship internship3 = internshipBuilder.withTaskList("").build();
+        assertTrue(comparator.compare(internship1, internship2) > 0);
+        assertTrue(comparator.compare(internship2, internship3) < 0);
+    }
+
+    @Test
+    public void byTaskCount_descComparator_correctOrder() {
+        Comparator<Internship> comparator = InternshipComparators.byTaskCount(false);
+        Internship internship1 = internshipBuilder.withTaskList("Interview").build();
+        Internship internship2 = internshipBuilder.withTaskList("Interview; OA").build();
+        assertEquals(1, comparator.compare(internship1, internship2));
+    }
+}
@@ -20,6 +20,7 @@ import seedu.address.model.InternshipModelManager;
 import seedu.address.model.InternshipUserPrefs;
 import seedu.address.model.internship.Internship;
 import seedu.address.model.internship.Task;
+import seedu.address.testutil.InternshipBuilder;
 
 public class InternshipDeleteTaskCommandTest {
     private static final Index INDEX_FIRST_TASK = Index.fromOneBased(1);
@@ -30,9 +31,11 @@ public class InternshipDeleteTaskCommandTest {
 
     @Test
     public void execute_internshipTask_success() {
-        Internship internshipWithDeletedTask = getTypicalInternships().get(0);
-        internshipWithDeletedTask.deleteTask(INDEX_FIRST_TASK.getZeroBased());
-        Task taskToDelete = internshipWithDeletedTask.getTaskList().getTask(INDEX_FIRST_TASK.getZeroBased());
+        //this is ALICE_MICROSOFT
+        Internship internshipToDeleteTask = getTypicalInternships().get(0);
+        Task taskToDelete = internshipToDeleteTask.getTaskList().getTask(INDEX_FIRST_TASK.getZeroBased());
+        Internship internshipWithDeletedTask = new InternshipBuilder(internshipToDeleteTask)
+                .withTaskList("Submit Resume").build();
         InternshipDeleteTaskCommand deleteTaskCommand = new InternshipDeleteTaskCommand(INDEX_FIRST_INTERNSHIP,
                 INDEX_FIRST_TASK);
 
@@ -44,6 +47,11 @@ public class InternshipDeleteTaskCommandTest {
         expectedModel.setInternship(model.getFilteredInternshipList().get(0), internshipWithDeletedTask);
 
         assertCommandSuccess(deleteTaskCommand, model, expectedMessage, expectedModel);
+        assertEquals(internshipWithDeletedTask.getTaskList(),
+                model.getFilteredInternshipList().get(0).getTaskList());
+
+        // original internship is not modified
+        assertEquals(2, internshipToDeleteTask.getTaskListSize());
     }
 
     @Test
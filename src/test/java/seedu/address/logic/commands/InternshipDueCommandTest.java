@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+
+public class InternshipDueCommandTest {
+
+    private final InternshipModel model =
+            new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs());
+    private final InternshipModel expectedModel =
+            new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs());
+
+    @Test
+    public void execute_tasksDue_listsTasksInDeadlineOrder() {
+        InternshipDueCommand command = new InternshipDueCommand(LocalDate.of(2011, 1, 1), LocalDate.of(2033, 12, 31));
+        String expectedMessage = String.format(InternshipDueCommand.MESSAGE_TASKS_DUE, 2, "01/01/2011",
+                "31/12/2033", "\n1. 11/01/2011 Microsoft: Submit Documents\n2. 13/03/2033 OpenAI: Submit Resume");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noTasksDue_showsNoTasks() {
+        LocalDate date = LocalDate.of(2024, 4, 20);
+        String expectedMessage = String.format(InternshipDueCommand.MESSAGE_NO_TASKS_DUE, "20/04/2024", "20/04/2024");
+        assertCommandSuccess(new InternshipDueCommand(date, date), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void constructor_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new InternshipDueCommand(LocalDate.of(2024, 4, 20), LocalDate.of(2024, 4, 19)));
+    }
+
+    @Test
+    public void equals() {
+        LocalDate today = LocalDate.of(2024, 4, 20);
+        InternshipDueCommand dueCommand = new InternshipDueCommand(today, today.plusDays(6));
+
+        // same object -> returns true
+        assertTrue(dueCommand.equals(dueCommand));
+
+        // same dates -> returns true
+        assertTrue(dueCommand.equals(InternshipDueCommand.fromDate(today)));
+
+        // different dates -> returns false
+        assertFalse(dueCommand.equals(new InternshipDueCommand(today, today)));
+
+        // null -> returns false
+        assertFalse(dueCommand.equals(null));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.InternshipCommandTestUtil.DESC_AMY;
 import static seedu.address.logic.commands.InternshipCommandTestUtil.DESC_BOB;
@@ -187,7 +188,8 @@ public class InternshipEditCommandTest {
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
 
-        assertEquals(model.getSelectedInternship().get(0), editedInternship);
+        assertSame(model.getFilteredInternshipList().get(0), model.getSelectedInternship());
+        assertEquals(model.getSelectedInternship(), editedInternship);
     }
 
     @Test
@@ -212,8 +214,8 @@ public class InternshipEditCommandTest {
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
 
-        assertNotEquals(model.getSelectedInternship().get(0), editedInternship);
-        assertEquals(model.getSelectedInternship().get(0), model.getFilteredInternshipList().get(1));
+        assertNotEquals(model.getSelectedInternship(), editedInternship);
+        assertEquals(model.getSelectedInternship(), model.getFilteredInternshipList().get(1));
     }
 
     @Test
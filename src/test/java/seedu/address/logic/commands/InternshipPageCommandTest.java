@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.InternshipData;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+import seedu.address.testutil.InternshipBuilder;
+
+/**
+ * Contains integration tests (interaction with the InternshipModel) and unit tests for InternshipPageCommand.
+ */
+public class InternshipPageCommandTest {
+
+    private static final int INTERNSHIP_COUNT = InternshipModel.PAGE_SIZE * 2 + 1;
+
+    private InternshipModel model;
+    private InternshipModel expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        InternshipData internshipData = new InternshipData();
+        for (int i = 0; i < INTERNSHIP_COUNT; i++) {
+            internshipData.addInternship(new InternshipBuilder().withCompanyName("Company " + i).build());
+        }
+        model = new InternshipModelManager(internshipData, new InternshipUserPrefs());
+        expectedModel = new InternshipModelManager(internshipData, new InternshipUserPrefs());
+    }
+
+    @Test
+    public void execute_nextPage_showsNextPage() {
+        expectedModel.setPageIndex(1);
+        assertCommandSuccess(InternshipPageCommand.nextPage(), model,
+                String.format(InternshipPageCommand.MESSAGE_SUCCESS, 2, 3, INTERNSHIP_COUNT), expectedModel);
+        assertEquals(model.getFilteredInternshipList()
+                .subList(InternshipModel.PAGE_SIZE, InternshipModel.PAGE_SIZE * 2), model.getInternshipPage());
+    }
+
+    @Test
+    public void execute_jumpToLastPage_showsRemainingInternships() {
+        expectedModel.setPageIndex(2);
+        assertCommandSuccess(new InternshipPageCommand(Index.fromOneBased(3)), model,
+                String.format(InternshipPageCommand.MESSAGE_SUCCESS, 3, 3, INTERNSHIP_COUNT), expectedModel);
+        assertEquals(1, model.getInternshipPage().size());
+    }
+
+    @Test
+    public void execute_previousPageOnFirstPage_throwsCommandException() {
+        assertCommandFailure(InternshipPageCommand.previousPage(), model,
+                InternshipPageCommand.MESSAGE_ALREADY_ON_FIRST_PAGE);
+    }
+
+    @Test
+    public void execute_nextPageOnLastPage_throwsCommandException() {
+        model.setPageIndex(2);
+        assertCommandFailure(InternshipPageCommand.nextPage(), model,
+                InternshipPageCommand.MESSAGE_ALREADY_ON_LAST_PAGE);
+    }
+
+    @Test
+    public void execute_pageOutOfRange_throwsCommandException() {
+        assertCommandFailure(new InternshipPageCommand(Index.fromOneBased(4)), model,
+                String.format(InternshipPageCommand.MESSAGE_INVALID_PAGE, 4, 3));
+    }
+
+    @Test
+    public void equals() {
+        InternshipPageCommand firstPageCommand = new InternshipPageCommand(Index.fromOneBased(1));
+
+        // same object -> returns true
+        assertTrue(firstPageCommand.equals(firstPageCommand));
+
+        // same values -> returns true
+        assertTrue(firstPageCommand.equals(new InternshipPageCommand(Index.fromOneBased(1))));
+        assertTrue(InternshipPageCommand.nextPage().equals(InternshipPageCommand.nextPage()));
+
+        // different page -> returns false
+        assertFalse(firstPageCommand.equals(new InternshipPageCommand(Index.fromOneBased(2))));
+        assertFalse(InternshipPageCommand.nextPage().equals(InternshipPageCommand.previousPage()));
+        assertFalse(firstPageCommand.equals(InternshipPageCommand.nextPage()));
+
+        // null -> returns false
+        assertFalse(firstPageCommand.equals(null));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalInternships.HOON_APPLE;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+
+/**
+ * Contains integration tests (interaction with the InternshipModel) and unit tests for InternshipRedoCommand.
+ */
+public class InternshipRedoCommandTest {
+
+    private InternshipModel model;
+    private InternshipModel expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs());
+        expectedModel = new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs());
+    }
+
+    @Test
+    public void execute_noUndoneChanges_failure() {
+        assertCommandFailure(new InternshipRedoCommand(), model, InternshipRedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterUndo_reappliesChange() {
+        model.addInternship(HOON_APPLE);
+        model.commitInternshipData();
+        model.undoInternshipData();
+
+        expectedModel.addInternship(HOON_APPLE);
+        assertCommandSuccess(new InternshipRedoCommand(), model, InternshipRedoCommand.MESSAGE_SUCCESS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_failure() {
+        model.addInternship(HOON_APPLE);
+        model.commitInternshipData();
+        model.undoInternshipData();
+        model.deleteInternship(model.getFilteredInternshipList().get(0));
+        model.commitInternshipData();
+
+        assertCommandFailure(new InternshipRedoCommand(), model, InternshipRedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_commandWordIsRedo_success() {
+        assertEquals(InternshipRedoCommand.COMMAND_WORD, "redo");
+    }
+}
@@ -33,10 +33,10 @@ public class InternshipRemarkCommandTest {
         Internship editedInternship = new InternshipBuilder(firstInternship).withRemark(REMARK_STUB).build();
 
         InternshipRemarkCommand remarkCommand = new InternshipRemarkCommand(INDEX_FIRST_INTERNSHIP,
-                new Remark(editedInternship.getRemark().value));
+                new Remark(editedInternship.getRemark().toString()));
 
         String expectedMessage = String.format(InternshipRemarkCommand.MESSAGE_ADD_REMARK_SUCCESS,
-                new Remark(editedInternship.getRemark().value));
+                new Remark(editedInternship.getRemark().toString()));
 
         InternshipModel expectedModel = new InternshipModelManager(new InternshipData(model.getInternshipData()),
                 new InternshipUserPrefs());
@@ -72,10 +72,10 @@ public class InternshipRemarkCommandTest {
                 .withRemark(REMARK_STUB).build();
 
         InternshipRemarkCommand remarkCommand = new InternshipRemarkCommand(INDEX_FIRST_INTERNSHIP,
-                new Remark(editedInternship.getRemark().value));
+                new Remark(editedInternship.getRemark().toString()));
 
         String expectedMessage = String.format(InternshipRemarkCommand.MESSAGE_ADD_REMARK_SUCCESS,
-                new Remark(editedInternship.getRemark().value));
+                new Remark(editedInternship.getRemark().toString()));
 
         InternshipModel expectedModel = new InternshipModelManager(new InternshipData(model.getInternshipData()),
                 new InternshipUserPrefs());
@@ -20,6 +20,8 @@ import seedu.address.model.InternshipModelManager;
 import seedu.address.model.InternshipUserPrefs;
 import seedu.address.model.internship.Deadline;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Task;
+import seedu.address.testutil.InternshipBuilder;
 
 /**
  * Contains integration tests (interaction with the InternshipModel) and unit tests for InternshipSetDeadlineCommand.
@@ -34,8 +36,9 @@ public class InternshipSetDeadlineCommandTest {
     @Test
     public void execute_internshipWithSpecifiedTaskAndDeadline_success() {
         //this is BENSON_GOOGLE
-        Internship internshipWithAddedDeadline = getTypicalInternshipData().getInternshipList().get(1);
-        internshipWithAddedDeadline.getTaskList().getTask(0).setDeadline(DEFAULT_DEADLINE);
+        Internship internshipToSetDeadline = getTypicalInternshipData().getInternshipList().get(1);
+        Internship internshipWithAddedDeadline = new InternshipBuilder(internshipToSetDeadline)
+                .withTaskList("Submit documents (20/04/2024)").build();
 
         InternshipSetDeadlineCommand setDeadlineCommand = new InternshipSetDeadlineCommand(INDEX_SECOND_INTERNSHIP,
                 INDEX_FIRST_TASK, DEFAULT_DEADLINE);
@@ -48,6 +51,11 @@ public class InternshipSetDeadlineCommandTest {
         expectedModel.setInternship(expectedModel.getFilteredInternshipList().get(1), internshipWithAddedDeadline);
 
         assertCommandSuccess(setDeadlineCommand, model, expectedMessage, expectedModel);
+        assertEquals(internshipWithAddedDeadline.getTaskList(),
+                model.getFilteredInternshipList().get(1).getTaskList());
+
+        // original task is not modified
+        assertEquals(new Task("Submit documents"), internshipToSetDeadline.getTaskList().getTask(0));
     }
 
     @Test
@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.CommandPhase;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+
+public class InternshipStatsCommandTest {
+
+    private final InternshipModel model =
+            new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs());
+    private final InternshipModel expectedModel =
+            new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs());
+
+    @Test
+    public void execute_nothingTimed_showsNoStats() {
+        assertCommandSuccess(new InternshipStatsCommand(new CommandMetrics()), model,
+                InternshipStatsCommand.MESSAGE_NO_STATS, expectedModel);
+    }
+
+    @Test
+    public void execute_commandsTimed_showsReport() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record("list", CommandPhase.EXECUTE, 1_000_000);
+        String expectedMessage = String.format(InternshipStatsCommand.MESSAGE_SUCCESS, metrics.getReport());
+        assertCommandSuccess(new InternshipStatsCommand(metrics), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics metrics = new CommandMetrics();
+        InternshipStatsCommand statsCommand = new InternshipStatsCommand(metrics);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same metrics -> returns true
+        assertTrue(statsCommand.equals(new InternshipStatsCommand(metrics)));
+
+        // default metrics -> returns true
+        assertEquals(new InternshipStatsCommand(), new InternshipStatsCommand(CommandMetrics.getInstance()));
+
+        // different metrics -> returns false
+        assertFalse(statsCommand.equals(new InternshipStatsCommand(new CommandMetrics())));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.InternshipData;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+
+public class InternshipSummaryCommandTest {
+
+    private final InternshipModel model =
+            new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs());
+    private final InternshipModel expectedModel =
+            new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs());
+
+    @Test
+    public void execute_typicalInternships_showsCounts() {
+        // Alice's task was due on 11/01/2011, Carl's is due on 13/03/2033
+        String expectedMessage = String.format(InternshipSummaryCommand.MESSAGE_SUCCESS, 3,
+                "TO_APPLY 0, PENDING 1, REJECTED 1, ACCEPTED 0, ONGOING 1",
+                "LOCAL 1, OVERSEAS 1, REMOTE 1, UNKNOWN 0", 1);
+        assertCommandSuccess(new InternshipSummaryCommand(LocalDate.of(2024, 4, 20)), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_allDeadlinesPassed_countsAllOverdue() {
+        String expectedMessage = String.format(InternshipSummaryCommand.MESSAGE_SUCCESS, 3,
+                "TO_APPLY 0, PENDING 1, REJECTED 1, ACCEPTED 0, ONGOING 1",
+                "LOCAL 1, OVERSEAS 1, REMOTE 1, UNKNOWN 0", 2);
+        assertCommandSuccess(new InternshipSummaryCommand(LocalDate.of(2033, 3, 14)), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_emptyInternshipData_showsZeroCounts() {
+        InternshipModel emptyModel = new InternshipModelManager(new InternshipData(), new InternshipUserPrefs());
+        InternshipModel expectedEmptyModel =
+                new InternshipModelManager(new InternshipData(), new InternshipUserPrefs());
+        String expectedMessage = String.format(InternshipSummaryCommand.MESSAGE_SUCCESS, 0,
+                "TO_APPLY 0, PENDING 0, REJECTED 0, ACCEPTED 0, ONGOING 0",
+                "LOCAL 0, OVERSEAS 0, REMOTE 0, UNKNOWN 0", 0);
+        assertCommandSuccess(new InternshipSummaryCommand(LocalDate.of(2024, 4, 20)), emptyModel, expectedMessage,
+                expectedEmptyModel);
+    }
+
+    @Test
+    public void equals() {
+        LocalDate today = LocalDate.of(2024, 4, 20);
+        InternshipSummaryCommand summaryCommand = new InternshipSummaryCommand(today);
+
+        // same object -> returns true
+        assertTrue(summaryCommand.equals(summaryCommand));
+
+        // same date -> returns true
+        assertTrue(summaryCommand.equals(new InternshipSummaryCommand(today)));
+
+        // different types -> returns false
+        assertFalse(summaryCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(summaryCommand.equals(null));
+
+        // different date -> returns false
+        assertFalse(summaryCommand.equals(new InternshipSummaryCommand(today.plusDays(1))));
+    }
+}
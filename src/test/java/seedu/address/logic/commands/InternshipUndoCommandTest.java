@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalInternships.HOON_APPLE;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+
+/**
+ * Contains integration tests (interaction with the InternshipModel) and unit tests for InternshipUndoCommand.
+ */
+public class InternshipUndoCommandTest {
+
+    private InternshipModel model;
+    private InternshipModel expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs());
+        expectedModel = new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs());
+    }
+
+    @Test
+    public void execute_noChanges_failure() {
+        assertCommandFailure(new InternshipUndoCommand(), model, InternshipUndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterAdd_restoresPreviousData() {
+        model.addInternship(HOON_APPLE);
+        model.commitInternshipData();
+
+        assertCommandSuccess(new InternshipUndoCommand(), model, InternshipUndoCommand.MESSAGE_SUCCESS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_afterMultipleChanges_restoresOneChangeAtATime() {
+        model.deleteInternship(model.getFilteredInternshipList().get(0));
+        model.commitInternshipData();
+        model.addInternship(HOON_APPLE);
+        model.commitInternshipData();
+
+        expectedModel.deleteInternship(expectedModel.getFilteredInternshipList().get(0));
+        assertCommandSuccess(new InternshipUndoCommand(), model, InternshipUndoCommand.MESSAGE_SUCCESS,
+                expectedModel);
+
+        InternshipModel originalModel = new InternshipModelManager(getTypicalInternshipData(),
+                new InternshipUserPrefs());
+        assertCommandSuccess(new InternshipUndoCommand(), model, InternshipUndoCommand.MESSAGE_SUCCESS,
+                originalModel);
+
+        assertCommandFailure(new InternshipUndoCommand(), model, InternshipUndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_commandWordIsUndo_success() {
+        assertEquals(InternshipUndoCommand.COMMAND_WORD, "undo");
+    }
+}
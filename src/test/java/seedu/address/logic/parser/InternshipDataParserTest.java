@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.InternshipMessages.MESSAGE_UNKNOWN_COMMAND;
@@ -10,17 +11,25 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.InternshipTypicalIndexes.INDEX_FIRST_INTERNSHIP;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.InternshipAddCommand;
 import seedu.address.logic.commands.InternshipClearCommand;
 import seedu.address.logic.commands.InternshipDeleteCommand;
+import seedu.address.logic.commands.InternshipDueCommand;
 import seedu.address.logic.commands.InternshipEditCommand;
 import seedu.address.logic.commands.InternshipEditCommand.EditInternshipDescriptor;
 import seedu.address.logic.commands.InternshipExitCommand;
 import seedu.address.logic.commands.InternshipFindCommand;
 import seedu.address.logic.commands.InternshipHelpCommand;
 import seedu.address.logic.commands.InternshipListCommand;
+import seedu.address.logic.commands.InternshipPageCommand;
+import seedu.address.logic.commands.InternshipRedoCommand;
+import seedu.address.logic.commands.InternshipStatsCommand;
+import seedu.address.logic.commands.InternshipSummaryCommand;
+import seedu.address.logic.commands.InternshipUndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.internship.Internship;
 import seedu.address.testutil.EditInternshipDescriptorBuilder;
@@ -40,6 +49,53 @@ public class InternshipDataParserTest {
         assertEquals(new InternshipAddCommand(internship), command);
     }
 
+    @Test
+    public void commandWords_allRecognised() {
+        for (String commandWord : InternshipDataParser.COMMAND_WORDS) {
+            try {
+                parser.parseCommand(commandWord);
+            } catch (ParseException e) {
+                assertFalse(e.getMessage().equals(MESSAGE_UNKNOWN_COMMAND), commandWord);
+            }
+        }
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(InternshipUndoCommand.COMMAND_WORD) instanceof InternshipUndoCommand);
+        assertTrue(parser.parseCommand(InternshipUndoCommand.COMMAND_WORD + " 3") instanceof InternshipUndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(InternshipRedoCommand.COMMAND_WORD) instanceof InternshipRedoCommand);
+        assertTrue(parser.parseCommand(InternshipRedoCommand.COMMAND_WORD + " 3") instanceof InternshipRedoCommand);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(InternshipStatsCommand.COMMAND_WORD) instanceof InternshipStatsCommand);
+        assertTrue(parser.parseCommand(InternshipStatsCommand.COMMAND_WORD + " 3") instanceof InternshipStatsCommand);
+    }
+
+    @Test
+    public void parseCommand_summary() throws Exception {
+        assertTrue(parser.parseCommand(InternshipSummaryCommand.COMMAND_WORD) instanceof InternshipSummaryCommand);
+    }
+
+    @Test
+    public void parseCommand_due() throws Exception {
+        LocalDate date = LocalDate.of(2024, 4, 20);
+        assertEquals(new InternshipDueCommand(date, date),
+                parser.parseCommand(InternshipDueCommand.COMMAND_WORD + " 20/04/2024"));
+    }
+
+    @Test
+    public void parseCommand_page() throws Exception {
+        assertEquals(InternshipPageCommand.nextPage(),
+                parser.parseCommand(InternshipPageCommand.COMMAND_WORD + " next"));
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(InternshipClearCommand.COMMAND_WORD) instanceof InternshipClearCommand);
@@ -8,7 +8,10 @@ import static seedu.address.testutil.InternshipTypicalIndexes.INDEX_FIRST_INTERN
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.InternshipBulkDeleteCommand;
 import seedu.address.logic.commands.InternshipDeleteCommand;
+import seedu.address.logic.commands.InternshipFindCommand;
+import seedu.address.model.internship.InternshipContainsKeywordsPredicate;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -38,4 +41,24 @@ public class InternshipDeleteCommandParserTest {
         assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 InternshipDeleteCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_filterWithoutMode_returnsInternshipBulkDeleteCommand() {
+        InternshipContainsKeywordsPredicate predicate = new InternshipContainsKeywordsPredicate(null, null, null,
+                "rejected", null, null, null, true);
+        assertParseSuccess(parser, " /status rejected", new InternshipBulkDeleteCommand(predicate));
+    }
+
+    @Test
+    public void parse_filterWithMode_returnsInternshipBulkDeleteCommand() {
+        InternshipContainsKeywordsPredicate predicate = new InternshipContainsKeywordsPredicate("Google", null, null,
+                "rejected", null, null, null, false);
+        assertParseSuccess(parser, " withany /com Google /status rejected",
+                new InternshipBulkDeleteCommand(predicate));
+    }
+
+    @Test
+    public void parse_filterWithInvalidMode_throwsParseException() {
+        assertParseFailure(parser, " withsome /status rejected", InternshipFindCommand.INVALID_MODE_SPECIFIED);
+    }
 }
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.InternshipCommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.InternshipCommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.InternshipDueCommand;
+
+public class InternshipDueCommandParserTest {
+
+    private final InternshipDueCommandParser parser = new InternshipDueCommandParser();
+
+    @Test
+    public void parse_noDates_returnsCommandForNextWeek() {
+        assertParseSuccess(parser, " ", InternshipDueCommand.fromDate(LocalDate.now()));
+    }
+
+    @Test
+    public void parse_oneDate_returnsCommandForThatDay() {
+        LocalDate date = LocalDate.of(2024, 4, 20);
+        assertParseSuccess(parser, " 20/04/2024", new InternshipDueCommand(date, date));
+    }
+
+    @Test
+    public void parse_twoDates_returnsCommandForRange() {
+        assertParseSuccess(parser, " 01/04/2024   30/04/2024 ",
+                new InternshipDueCommand(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, InternshipDueCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "tomorrow", expectedMessage);
+        assertParseFailure(parser, "32/01/2024", expectedMessage);
+        assertParseFailure(parser, "01/04/2024 02/04/2024 03/04/2024", expectedMessage);
+    }
+
+    @Test
+    public void parse_endBeforeStart_throwsParseException() {
+        assertParseFailure(parser, "30/04/2024 01/04/2024", InternshipDueCommand.MESSAGE_END_BEFORE_START);
+    }
+}
@@ -44,6 +44,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.InternshipMessages;
+import seedu.address.logic.commands.InternshipBulkEditCommand;
 import seedu.address.logic.commands.InternshipEditCommand;
 import seedu.address.logic.commands.InternshipEditCommand.EditInternshipDescriptor;
 import seedu.address.model.internship.ApplicationStatus;
@@ -52,6 +53,7 @@ import seedu.address.model.internship.ContactEmail;
 import seedu.address.model.internship.ContactName;
 import seedu.address.model.internship.ContactNumber;
 import seedu.address.model.internship.Description;
+import seedu.address.model.internship.InternshipContainsKeywordsPredicate;
 import seedu.address.model.internship.Location;
 import seedu.address.testutil.EditInternshipDescriptorBuilder;
 
@@ -236,4 +238,37 @@ public class InternshipEditCommandParserTest {
         assertParseFailure(parser, userInput, InternshipMessages
                 .getErrorMessageForDuplicatePrefixes(PREFIX_CONTACT_NUMBER, PREFIX_ROLE, PREFIX_CONTACT_EMAIL));
     }
+
+    @Test
+    public void parse_filterAndFieldsSpecified_returnsInternshipBulkEditCommand() {
+        InternshipContainsKeywordsPredicate predicate = new InternshipContainsKeywordsPredicate(null, null, null,
+                "pending", null, null, null, true);
+        EditInternshipDescriptor descriptor = new EditInternshipDescriptorBuilder()
+                .withLocation(VALID_LOCATION_AMY).build();
+
+        // mode omitted
+        assertParseSuccess(parser, " /status pending /set" + LOCATION_DESC_AMY,
+                new InternshipBulkEditCommand(predicate, descriptor));
+
+        // mode specified
+        assertParseSuccess(parser, " withall /status pending /set" + LOCATION_DESC_AMY,
+                new InternshipBulkEditCommand(predicate, descriptor));
+    }
+
+    @Test
+    public void parse_bulkEditMissingParts_failure() {
+        // no filter specified
+        assertParseFailure(parser, " /set" + LOCATION_DESC_AMY, MESSAGE_INVALID_FORMAT);
+
+        // no field specified
+        assertParseFailure(parser, " /status pending /set", MESSAGE_INVALID_FORMAT);
+
+        // text before the first field
+        assertParseFailure(parser, " /status pending /set remote" + LOCATION_DESC_AMY, MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_bulkEditInvalidValue_failure() {
+        assertParseFailure(parser, " /status pending /set" + INVALID_LOCATION_DESC, Location.MESSAGE_CONSTRAINTS);
+    }
 }
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.InternshipCommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.InternshipCommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.InternshipPageCommand;
+
+public class InternshipPageCommandParserTest {
+
+    private final InternshipPageCommandParser parser = new InternshipPageCommandParser();
+
+    @Test
+    public void parse_next_returnsNextPageCommand() {
+        assertParseSuccess(parser, " next ", InternshipPageCommand.nextPage());
+        assertParseSuccess(parser, "NEXT", InternshipPageCommand.nextPage());
+    }
+
+    @Test
+    public void parse_prev_returnsPreviousPageCommand() {
+        assertParseSuccess(parser, "prev", InternshipPageCommand.previousPage());
+    }
+
+    @Test
+    public void parse_pageNumber_returnsJumpCommand() {
+        assertParseSuccess(parser, " 3", new InternshipPageCommand(Index.fromOneBased(3)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, InternshipPageCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "last", expectedMessage);
+    }
+}
@@ -89,6 +89,14 @@ public class InternshipSortCommandParserTest {
                 + " asc " + PREFIX_CONTACT_EMAIL + " asc"));
     }
 
+    @Test
+    public void parseValidInput_taskFields() throws ParseException {
+        assertEquals(new InternshipSortCommand(InternshipSortCommandParser.FieldEnum.EARLIEST_DEADLINE,
+                InternshipSortCommandParser.OrderEnum.ASCENDING), parser.parse(" /deadline asc"));
+        assertEquals(new InternshipSortCommand(InternshipSortCommandParser.FieldEnum.TASK_COUNT,
+                InternshipSortCommandParser.OrderEnum.DESCENDING), parser.parse(" /task desc"));
+    }
+
     @Test
     public void parseValidInput_contactNameAsc() throws ParseException {
         InternshipSortCommand expectedCommand = new InternshipSortCommand(
@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalInternships.AMY;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.util.PersistentVector;
+import seedu.address.testutil.InternshipBuilder;
+
+public class ConcurrentInternshipModelManagerTest {
+
+    private final ConcurrentInternshipModelManager modelManager =
+            new ConcurrentInternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs());
+
+    @Test
+    public void getInternshipSnapshot_afterChange_publishesNewVersionAndKeepsOldVersion() {
+        PersistentVector<Internship> before = modelManager.getInternshipSnapshot();
+        modelManager.addInternship(AMY);
+        PersistentVector<Internship> after = modelManager.getInternshipSnapshot();
+
+        assertEquals(modelManager.getInternshipData().getInternshipList(), after.toList());
+        assertEquals(getTypicalInternshipData().getInternshipList(), before.toList());
+    }
+
+    @Test
+    public void getInternshipSnapshot_afterUndo_publishesRestoredVersion() {
+        modelManager.addInternship(AMY);
+        modelManager.commitInternshipData();
+        modelManager.undoInternshipData();
+        assertEquals(getTypicalInternshipData().getInternshipList(), modelManager.getInternshipSnapshot().toList());
+    }
+
+    @Test
+    public void setGuiSettingsAndFilePath_publishedToReaders() {
+        GuiSettings guiSettings = new GuiSettings(1, 2, 3, 4);
+        modelManager.setGuiSettings(guiSettings);
+        modelManager.setInternshipDataFilePath(Paths.get("other", "path.json"));
+        assertEquals(guiSettings, modelManager.getGuiSettings());
+        assertEquals(Paths.get("other", "path.json"), modelManager.getInternshipDataFilePath());
+    }
+
+    @Test
+    public void getInternshipSnapshot_readWhileWriting_alwaysConsistent() throws Exception {
+        int writes = 300;
+        int initialSize = modelManager.getInternshipSnapshot().size();
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < writes; i++) {
+                modelManager.addInternship(new InternshipBuilder().withCompanyName("Company " + i).build());
+            }
+        });
+        Thread reader = new Thread(() -> {
+            int lastSize = initialSize;
+            while (lastSize < initialSize + writes && failure.get() == null) {
+                PersistentVector<Internship> snapshot = modelManager.getInternshipSnapshot();
+                int iterated = 0;
+                for (Internship unused : snapshot) {
+                    iterated++;
+                }
+                if (iterated != snapshot.size() || snapshot.size() < lastSize) {
+                    failure.set("Inconsistent snapshot of size " + snapshot.size() + " after " + lastSize);
+                }
+                lastSize = snapshot.size();
+            }
+        });
+
+        reader.start();
+        writer.start();
+        writer.join();
+        reader.join();
+
+        assertNull(failure.get(), failure.get());
+        assertEquals(initialSize + writes, modelManager.getInternshipSnapshot().size());
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs()),
+                modelManager);
+    }
+}
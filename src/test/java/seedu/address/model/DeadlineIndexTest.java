@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+import static seedu.address.testutil.TypicalInternships.CARL_OPENAI;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.DeadlineIndex.DueTask;
+import seedu.address.model.internship.Deadline;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Task;
+import seedu.address.model.internship.UniqueInternshipList;
+import seedu.address.model.util.PersistentVector;
+import seedu.address.testutil.InternshipBuilder;
+
+public class DeadlineIndexTest {
+
+    private static final LocalDate START = LocalDate.of(2000, 1, 1);
+    private static final LocalDate END = LocalDate.of(2100, 1, 1);
+
+    private final UniqueInternshipList internships = new UniqueInternshipList();
+    private final DeadlineIndex index = new DeadlineIndex(internships.asUnmodifiableObservableList());
+
+    @Test
+    public void getTasksDue_tasksInRange_returnsTasksInDeadlineOrder() {
+        Internship google = new InternshipBuilder(BENSON_GOOGLE)
+                .withTaskList("Interview (13/03/2033); Call back (01/02/2020); Thank you email").build();
+        internships.add(CARL_OPENAI);
+        internships.add(google);
+        internships.add(ALICE_MICROSOFT);
+
+        assertEquals(List.of(dueTask(ALICE_MICROSOFT, 0), dueTask(google, 1), dueTask(CARL_OPENAI, 0),
+                dueTask(google, 0)), index.getTasksDue(START, END));
+
+        // both ends are inclusive
+        assertEquals(List.of(dueTask(google, 1), dueTask(CARL_OPENAI, 0), dueTask(google, 0)),
+                index.getTasksDue(LocalDate.of(2020, 2, 1), LocalDate.of(2033, 3, 13)));
+        assertEquals(List.of(), index.getTasksDue(LocalDate.of(2020, 2, 2), LocalDate.of(2033, 3, 12)));
+    }
+
+    @Test
+    public void getTasksDue_listChanged_followsChanges() {
+        internships.add(ALICE_MICROSOFT);
+        Internship aliceWithoutTasks = new InternshipBuilder(ALICE_MICROSOFT).withTaskList("").build();
+        internships.setInternship(ALICE_MICROSOFT, aliceWithoutTasks);
+        assertEquals(List.of(), index.getTasksDue(START, END));
+
+        internships.setInternships(List.of(CARL_OPENAI));
+        assertEquals(List.of(dueTask(CARL_OPENAI, 0)), index.getTasksDue(START, END));
+
+        internships.remove(CARL_OPENAI);
+        assertEquals(List.of(), index.getTasksDue(START, END));
+    }
+
+    @Test
+    public void getTasksDue_equalInternshipRemoved_keepsTasksOfOther() {
+        Internship copy = new InternshipBuilder(CARL_OPENAI).withRemark("Another remark").build();
+        internships.add(CARL_OPENAI);
+        internships.setInternship(CARL_OPENAI, copy);
+        assertEquals(List.of(dueTask(copy, 0)), index.getTasksDue(START, END));
+    }
+
+    @Test
+    public void getTasksDue_someInternshipsRemoved_keepsOthersInOrder() {
+        Internship hoon = new InternshipBuilder(BENSON_GOOGLE).withCompanyName("Apple")
+                .withTaskList("Interview (11/01/2011)").build();
+        internships.add(ALICE_MICROSOFT);
+        internships.add(CARL_OPENAI);
+        internships.add(hoon);
+
+        // Alice and Hoon share a deadline, so only Alice's task is removed from that day
+        internships.removeIf(internship -> internship == ALICE_MICROSOFT);
+        assertEquals(List.of(dueTask(hoon, 0), dueTask(CARL_OPENAI, 0)), index.getTasksDue(START, END));
+    }
+
+    @Test
+    public void getTasksDue_wholeListReplaced_rebuildsIndex() {
+        internships.add(ALICE_MICROSOFT);
+        internships.add(CARL_OPENAI);
+        PersistentVector<Internship> snapshot = internships.getSnapshot();
+
+        internships.removeIf(internship -> true);
+        assertEquals(List.of(), index.getTasksDue(START, END));
+
+        internships.restoreSnapshot(snapshot);
+        assertEquals(List.of(dueTask(ALICE_MICROSOFT, 0), dueTask(CARL_OPENAI, 0)), index.getTasksDue(START, END));
+    }
+
+    @Test
+    public void getTasksDue_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.getTasksDue(END, START));
+    }
+
+    private static DueTask dueTask(Internship internship, int taskIndex) {
+        Task task = internship.getTaskList().getTask(taskIndex);
+        Deadline deadline = task.getDeadline().orElseThrow();
+        return new DueTask(internship, task, deadline);
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.AMY;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+import static seedu.address.testutil.TypicalInternships.BOB;
+import static seedu.address.testutil.TypicalInternships.CARL_OPENAI;
+import static seedu.address.testutil.TypicalInternships.HOON_APPLE;
+import static seedu.address.testutil.TypicalInternships.IDA_NETFLIX;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.internship.ApplicationStatus.StatusEnum;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Location.LocationEnum;
+import seedu.address.testutil.InternshipBuilder;
+
+public class InternshipColumnStoreTest {
+
+    private final ObservableList<Internship> internships =
+            FXCollections.observableArrayList(ALICE_MICROSOFT, BENSON_GOOGLE, CARL_OPENAI, HOON_APPLE, IDA_NETFLIX);
+    private final InternshipColumnStore columnStore = new InternshipColumnStore(internships);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InternshipColumnStore(null));
+    }
+
+    @Test
+    public void get_validRow_returnsEqualInternship() {
+        assertEquals(internships.size(), columnStore.size());
+        for (int row = 0; row < internships.size(); row++) {
+            assertEquals(internships.get(row), columnStore.get(row));
+        }
+        assertEquals(internships, columnStore.asList());
+    }
+
+    @Test
+    public void get_invalidRow_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> columnStore.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> columnStore.get(internships.size()));
+    }
+
+    @Test
+    public void countByStatus() {
+        Map<StatusEnum, Integer> counts = columnStore.countByStatus();
+        assertEquals(0, (int) counts.get(StatusEnum.TO_APPLY));
+        assertEquals(2, (int) counts.get(StatusEnum.PENDING));
+        assertEquals(1, (int) counts.get(StatusEnum.REJECTED));
+        assertEquals(0, (int) counts.get(StatusEnum.ACCEPTED));
+        assertEquals(2, (int) counts.get(StatusEnum.ONGOING));
+    }
+
+    @Test
+    public void countByLocation() {
+        Map<LocationEnum, Integer> counts = columnStore.countByLocation();
+        assertEquals(2, (int) counts.get(LocationEnum.LOCAL));
+        assertEquals(1, (int) counts.get(LocationEnum.OVERSEAS));
+        assertEquals(2, (int) counts.get(LocationEnum.REMOTE));
+        assertEquals(0, (int) counts.get(LocationEnum.UNKNOWN));
+    }
+
+    @Test
+    public void countEarliestDeadlinesBetween() {
+        // Alice, Hoon and Ida's earliest deadline is 11/01/2011, Carl's is 13/03/2033 and Benson has none
+        assertEquals(3, columnStore.countEarliestDeadlinesBetween(LocalDate.of(2011, 1, 11),
+                LocalDate.of(2011, 1, 11)));
+        assertEquals(4, columnStore.countEarliestDeadlinesBetween(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(0, columnStore.countEarliestDeadlinesBetween(LocalDate.of(2011, 1, 12),
+                LocalDate.of(2033, 3, 12)));
+        assertThrows(IllegalArgumentException.class, () -> columnStore.countEarliestDeadlinesBetween(
+                LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    public void filterByStatus() {
+        assertEquals(Arrays.asList(BENSON_GOOGLE, HOON_APPLE), columnStore.filterByStatus(StatusEnum.PENDING));
+        assertTrue(columnStore.filterByStatus(StatusEnum.ACCEPTED).isEmpty());
+    }
+
+    @Test
+    public void findByRemark() {
+        // matches ignore case
+        assertEquals(Arrays.asList(ALICE_MICROSOFT, IDA_NETFLIX), columnStore.findByRemark("BEHAVIOURAL"));
+        assertEquals(Arrays.asList(HOON_APPLE), columnStore.findByRemark("tomorrow"));
+        assertTrue(columnStore.findByRemark("salary").isEmpty());
+    }
+
+    @Test
+    public void listChanged_followsChanges() {
+        internships.remove(BENSON_GOOGLE);
+        internships.add(0, BENSON_GOOGLE);
+        internships.set(2, new InternshipBuilder(CARL_OPENAI).withApplicationStatus("accepted").build());
+        assertEquals(internships, columnStore.asList());
+        assertEquals(1, (int) columnStore.countByStatus().get(StatusEnum.ACCEPTED));
+
+        internships.setAll(CARL_OPENAI);
+        assertEquals(List.of(CARL_OPENAI), columnStore.asList());
+
+        internships.clear();
+        assertEquals(0, columnStore.size());
+    }
+
+    @Test
+    public void replaceRows_someRows_movesOtherRows() {
+        // Benson and Carl are replaced with Amy, and Alice, Hoon and Ida keep their order around her
+        columnStore.replaceRows(1, 2, List.of(AMY));
+        assertEquals(Arrays.asList(ALICE_MICROSOFT, AMY, HOON_APPLE, IDA_NETFLIX), columnStore.asList());
+        assertEquals(0, (int) columnStore.countByStatus().get(StatusEnum.REJECTED));
+
+        // inserting more rows than the store can hold grows it
+        List<Internship> manyInternships = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            manyInternships.add(new InternshipBuilder(BOB).withCompanyName("Company " + i).build());
+        }
+        columnStore.replaceRows(4, 0, manyInternships);
+        assertEquals(44, columnStore.size());
+        assertEquals(manyInternships.get(39), columnStore.get(43));
+        assertEquals(IDA_NETFLIX, columnStore.get(3));
+
+        // removing rows keeps the rest, after the dictionaries are compacted
+        columnStore.replaceRows(0, 43, List.of());
+        assertEquals(List.of(manyInternships.get(39)), columnStore.asList());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> columnStore.replaceRows(1, 1, List.of()));
+    }
+
+    @Test
+    public void emptyList() {
+        InternshipColumnStore emptyStore = new InternshipColumnStore(FXCollections.observableArrayList());
+        assertEquals(0, emptyStore.size());
+        assertEquals(0, (int) emptyStore.countByStatus().get(StatusEnum.PENDING));
+        assertTrue(emptyStore.asList().isEmpty());
+    }
+}
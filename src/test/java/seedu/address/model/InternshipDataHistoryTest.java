@@ -0,0 +1,117 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+import static seedu.address.testutil.TypicalInternships.CARL_OPENAI;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.internship.Internship;
+import seedu.address.model.util.PersistentVector;
+
+public class InternshipDataHistoryTest {
+
+    private final PersistentVector<Internship> emptyState = PersistentVector.empty();
+    private final PersistentVector<Internship> stateWithAlice = emptyState.append(ALICE_MICROSOFT);
+    private final PersistentVector<Internship> stateWithAliceBenson = stateWithAlice.append(BENSON_GOOGLE);
+
+    @Test
+    public void constructor_initialState_cannotUndoOrRedo() {
+        InternshipDataHistory history = new InternshipDataHistory(emptyState);
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+        assertSame(emptyState, history.getCurrentState());
+    }
+
+    @Test
+    public void commit_sameState_notRecorded() {
+        InternshipDataHistory history = new InternshipDataHistory(emptyState);
+        assertFalse(history.commit(emptyState));
+        assertEquals(1, history.size());
+    }
+
+    @Test
+    public void undoRedo_multipleStates_movesBetweenStates() {
+        InternshipDataHistory history = new InternshipDataHistory(emptyState);
+        history.commit(stateWithAlice);
+        history.commit(stateWithAliceBenson);
+
+        assertSame(stateWithAlice, history.undo());
+        assertSame(emptyState, history.undo());
+        assertFalse(history.canUndo());
+
+        assertSame(stateWithAlice, history.redo());
+        assertSame(stateWithAliceBenson, history.redo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoStates() {
+        InternshipDataHistory history = new InternshipDataHistory(emptyState);
+        history.commit(stateWithAlice);
+        history.commit(stateWithAliceBenson);
+        history.undo();
+
+        PersistentVector<Internship> stateWithAliceCarl = stateWithAlice.append(CARL_OPENAI);
+        assertTrue(history.commit(stateWithAliceCarl));
+        assertFalse(history.canRedo());
+        assertSame(stateWithAlice, history.undo());
+    }
+
+    @Test
+    public void commit_beyondMaxSize_dropsOldestState() {
+        InternshipDataHistory history = new InternshipDataHistory(emptyState, 2);
+        history.commit(stateWithAlice);
+        history.commit(stateWithAliceBenson);
+
+        assertEquals(2, history.size());
+        assertSame(stateWithAlice, history.undo());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_manyBeyondMaxSize_keepsNewestStatesInOrder() {
+        int maxHistorySize = 20;
+        InternshipDataHistory history = new InternshipDataHistory(emptyState, maxHistorySize);
+        List<PersistentVector<Internship>> states = new ArrayList<>();
+        states.add(emptyState);
+        for (int i = 0; i < 50; i++) {
+            PersistentVector<Internship> state = emptyState.append(ALICE_MICROSOFT);
+            states.add(state);
+            assertTrue(history.commit(state));
+        }
+        assertEquals(maxHistorySize, history.size());
+
+        for (int i = states.size() - 2; i >= states.size() - maxHistorySize; i--) {
+            assertSame(states.get(i), history.undo());
+        }
+        assertFalse(history.canUndo());
+        for (int i = states.size() - maxHistorySize + 1; i < states.size(); i++) {
+            assertSame(states.get(i), history.redo());
+        }
+        assertFalse(history.canRedo());
+
+        // committing after an undo discards the undone states, even where the buffer wraps around
+        history.undo();
+        history.undo();
+        assertTrue(history.commit(stateWithAliceBenson));
+        assertEquals(maxHistorySize - 1, history.size());
+        assertFalse(history.canRedo());
+        assertSame(states.get(states.size() - 3), history.undo());
+    }
+
+    @Test
+    public void undoRedo_noState_throwsIllegalStateException() {
+        InternshipDataHistory history = new InternshipDataHistory(emptyState);
+        assertThrows(IllegalStateException.class, history::undo);
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.util.InternshipSampleDataUtil.EMPTY_REMARK;
 import static seedu.address.model.util.InternshipSampleDataUtil.EMPTY_TASKLIST;
@@ -241,6 +242,21 @@ public class InternshipDataTest {
         assertNotNull(internshipList);
         assertTrue(internshipList.isEmpty());
     }
+    @Test
+    public void getColumnStore_followsChanges() {
+        InternshipData data = getTypicalInternshipData();
+        InternshipColumnStore columnStore = data.getColumnStore();
+        assertEquals(data.getInternshipList(), columnStore.asList());
+
+        // unchanged list -> same store
+        assertSame(columnStore, data.getColumnStore());
+
+        // changed list -> same store, following the change
+        data.removeInternship(ALICE_MICROSOFT);
+        assertSame(columnStore, data.getColumnStore());
+        assertEquals(data.getInternshipList(), columnStore.asList());
+    }
+
     @Test
     public void constructor() {
         assertEquals(Collections.emptyList(), internshipData.getInternshipList());
@@ -281,6 +297,13 @@ public class InternshipDataTest {
         assertFalse(internshipData.hasInternship(editedAlice));
     }
 
+    @Test
+    public void batch_commit_addsInternships() {
+        internshipData.batch().add(ALICE_MICROSOFT).commit();
+        assertTrue(internshipData.hasInternship(ALICE_MICROSOFT));
+        assertEquals(Collections.singletonList(ALICE_MICROSOFT), internshipData.getSnapshot().toList());
+    }
+
     @Test
     public void getInternshipList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> internshipData.getInternshipList().remove(0));
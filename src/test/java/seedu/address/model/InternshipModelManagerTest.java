@@ -2,12 +2,19 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -151,6 +158,139 @@ public class InternshipModelManagerTest {
         assertTrue(internshipModelManager.hasInternship(internship2));
     }
 
+    @Test
+    public void setSelectedInternship_internshipEdited_selectionFollowsEdit() {
+        internshipModelManager.addInternship(internship);
+        internshipModelManager.setSelectedInternship(internship);
+        Internship editedInternship = new InternshipBuilder(internship).withRemark("Call back").build();
+
+        internshipModelManager.setInternship(internship, editedInternship);
+        assertSame(editedInternship, internshipModelManager.getSelectedInternship());
+        assertSame(editedInternship, internshipModelManager.selectedInternshipProperty().get());
+
+        internshipModelManager.editInternships(unused -> true, target -> internship);
+        assertSame(internship, internshipModelManager.getSelectedInternship());
+    }
+
+    @Test
+    public void setSelectedInternship_internshipDeleted_selectionCleared() {
+        internshipModelManager.addInternship(internship);
+        internshipModelManager.setSelectedInternship(internship);
+        internshipModelManager.deleteInternship(internship);
+        assertNull(internshipModelManager.getSelectedInternship());
+
+        internshipModelManager.addInternship(internship);
+        internshipModelManager.setSelectedInternship(internship);
+        internshipModelManager.deleteInternships(unused -> true);
+        assertNull(internshipModelManager.getSelectedInternship());
+    }
+
+    @Test
+    public void setSelectedInternship_listFiltered_selectionKept() {
+        internshipModelManager.addInternship(internship);
+        internshipModelManager.setSelectedInternship(internship);
+        internshipModelManager.updateFilteredInternshipList(unused -> false);
+        assertSame(internship, internshipModelManager.getSelectedInternship());
+    }
+
+    @Test
+    public void setSelectedInternship_undoRedo_selectsSameInternshipInRestoredData() {
+        internshipModelManager.addInternship(internship);
+        internshipModelManager.commitInternshipData();
+        Internship editedInternship = new InternshipBuilder(internship).withRemark("Call back").build();
+        internshipModelManager.setInternship(internship, editedInternship);
+        internshipModelManager.commitInternshipData();
+        internshipModelManager.setSelectedInternship(editedInternship);
+
+        internshipModelManager.undoInternshipData();
+        assertSame(internship, internshipModelManager.getSelectedInternship());
+
+        internshipModelManager.redoInternshipData();
+        assertSame(editedInternship, internshipModelManager.getSelectedInternship());
+
+        internshipModelManager.setInternshipData(new InternshipData());
+        assertNull(internshipModelManager.getSelectedInternship());
+    }
+
+    @Test
+    public void loadInternshipData_afterChanges_replacesDataAndClearsHistory() {
+        internshipModelManager.addInternship(internship);
+        internshipModelManager.commitInternshipData();
+        InternshipData loadedData = new InternshipData();
+        loadedData.addInternship(new InternshipBuilder().withCompanyName("Loaded").build());
+
+        internshipModelManager.loadInternshipData(loadedData);
+        assertEquals(loadedData, internshipModelManager.getInternshipData());
+        assertFalse(internshipModelManager.canUndoInternshipData());
+        assertFalse(internshipModelManager.canRedoInternshipData());
+    }
+
+    @Test
+    public void previewFilteredInternshipList_refinement_testsOnlyFilteredInternships() {
+        internshipModelManager.addInternship(ALICE_MICROSOFT);
+        internshipModelManager.addInternship(BENSON_GOOGLE);
+        internshipModelManager.updateFilteredInternshipList(
+                internship -> internship.equals(BENSON_GOOGLE));
+
+        List<Internship> tested = new ArrayList<>();
+        assertTrue(internshipModelManager.previewFilteredInternshipList(internship -> tested.add(internship), true,
+                () -> false));
+        assertEquals(List.of(BENSON_GOOGLE), tested);
+        assertEquals(List.of(BENSON_GOOGLE), internshipModelManager.getFilteredInternshipList());
+
+        tested.clear();
+        assertTrue(internshipModelManager.previewFilteredInternshipList(internship -> tested.add(internship), false,
+                () -> false));
+        assertEquals(2, tested.size());
+        assertEquals(2, internshipModelManager.getFilteredInternshipList().size());
+    }
+
+    @Test
+    public void previewFilteredInternshipList_cancelled_listUnchanged() {
+        internshipModelManager.addInternship(ALICE_MICROSOFT);
+        Predicate<Internship> predicate = internshipModelManager.getFilteredInternshipPredicate();
+        assertFalse(internshipModelManager.previewFilteredInternshipList(unused -> false, false, () -> true));
+        assertEquals(List.of(ALICE_MICROSOFT), internshipModelManager.getFilteredInternshipList());
+        assertSame(predicate, internshipModelManager.getFilteredInternshipPredicate());
+    }
+
+    @Test
+    public void getInternshipPage_manyInternships_holdsOnlyCurrentPage() {
+        for (int i = 0; i < InternshipModel.PAGE_SIZE + 5; i++) {
+            internshipModelManager.addInternship(new InternshipBuilder().withCompanyName("Company " + i).build());
+        }
+        assertEquals(2, internshipModelManager.getPageCount());
+        assertEquals(internshipModelManager.getFilteredInternshipList().subList(0, InternshipModel.PAGE_SIZE),
+                internshipModelManager.getInternshipPage());
+
+        internshipModelManager.setPageIndex(1);
+        assertEquals(1, internshipModelManager.getPageIndex());
+        assertEquals(5, internshipModelManager.getInternshipPage().size());
+        assertThrows(IndexOutOfBoundsException.class, () -> internshipModelManager.setPageIndex(2));
+
+        // deleting the last page moves to the new last page
+        List<Internship> lastPage = new ArrayList<>(internshipModelManager.getInternshipPage());
+        internshipModelManager.deleteInternships(lastPage::contains);
+        assertEquals(0, internshipModelManager.getPageIndex());
+        assertEquals(InternshipModel.PAGE_SIZE, internshipModelManager.getInternshipPage().size());
+    }
+
+    @Test
+    public void updateFilteredInternshipList_onLaterPage_returnsToFirstPage() {
+        for (int i = 0; i < InternshipModel.PAGE_SIZE + 5; i++) {
+            internshipModelManager.addInternship(new InternshipBuilder().withCompanyName("Company " + i).build());
+        }
+        internshipModelManager.setPageIndex(1);
+        internshipModelManager.updateFilteredInternshipList(InternshipModel.PREDICATE_SHOW_ALL_INTERNSHIPS);
+        assertEquals(0, internshipModelManager.getPageIndex());
+
+        internshipModelManager.setPageIndex(1);
+        internshipModelManager.sortFilteredInternshipList(InternshipComparators.byCompanyName(false));
+        assertEquals(0, internshipModelManager.getPageIndex());
+        assertEquals(internshipModelManager.getFilteredInternshipList().get(0),
+                internshipModelManager.getInternshipPage().get(0));
+    }
+
     @Test
     public void getInternshipData() {
         InternshipData internshipData = new InternshipData();
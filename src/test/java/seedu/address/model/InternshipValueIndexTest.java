@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.InternshipValueIndex.Field;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.UniqueInternshipList;
+import seedu.address.testutil.InternshipBuilder;
+
+public class InternshipValueIndexTest {
+
+    private final UniqueInternshipList internships = new UniqueInternshipList();
+    private final InternshipValueIndex index = new InternshipValueIndex(internships.asUnmodifiableObservableList());
+
+    @Test
+    public void getValuesStartingWith_matchingPrefix_returnsValuesInOrderIgnoringCase() {
+        internships.add(new InternshipBuilder().withCompanyName("Goldman Sachs").build());
+        internships.add(BENSON_GOOGLE);
+        internships.add(ALICE_MICROSOFT);
+
+        assertEquals(List.of("Goldman Sachs", "Google"), index.getValuesStartingWith(Field.COMPANY_NAME, "go", 10));
+        assertEquals(List.of("Goldman Sachs"), index.getValuesStartingWith(Field.COMPANY_NAME, "GO", 1));
+        assertEquals(List.of(), index.getValuesStartingWith(Field.COMPANY_NAME, "Apple", 10));
+        assertEquals(List.of("Backend Engineer"), index.getValuesStartingWith(Field.ROLE, "b", 10));
+    }
+
+    @Test
+    public void getValuesStartingWith_listChanged_followsChanges() {
+        Internship otherGoogle = new InternshipBuilder(BENSON_GOOGLE).withContactName("Other Person").build();
+        internships.add(BENSON_GOOGLE);
+        internships.add(otherGoogle);
+        assertEquals(List.of("Google"), index.getValuesStartingWith(Field.COMPANY_NAME, "", 10));
+
+        // the value is kept while another internship still has it
+        internships.remove(BENSON_GOOGLE);
+        assertEquals(List.of("Google"), index.getValuesStartingWith(Field.COMPANY_NAME, "", 10));
+
+        internships.setInternship(otherGoogle, ALICE_MICROSOFT);
+        assertEquals(List.of("Microsoft"), index.getValuesStartingWith(Field.COMPANY_NAME, "", 10));
+
+        internships.setInternships(List.of(BENSON_GOOGLE));
+        assertEquals(List.of("Google"), index.getValuesStartingWith(Field.COMPANY_NAME, "", 10));
+    }
+}
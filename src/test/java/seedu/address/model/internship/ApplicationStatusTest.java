@@ -1,6 +1,8 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -41,6 +43,15 @@ public class ApplicationStatusTest {
         ;
     }
 
+    @Test
+    public void of_sameStatus_returnsCanonicalInstance() {
+        ApplicationStatus pending = ApplicationStatus.of("pending");
+        assertSame(pending, ApplicationStatus.of("PENDING"));
+        assertEquals(new ApplicationStatus("pending"), pending);
+        assertFalse(pending.equals(ApplicationStatus.of("rejected")));
+        assertThrows(IllegalArgumentException.class, () -> ApplicationStatus.of("unknown"));
+    }
+
     @Test
     public void equals() {
         ApplicationStatus applicationStatus = new ApplicationStatus("to_apply");
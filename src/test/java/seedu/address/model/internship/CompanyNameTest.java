@@ -1,6 +1,8 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -37,6 +39,15 @@ public class CompanyNameTest {
         assertTrue(CompanyName.isValidCompanyName("Kentucky Fried Chicken"));
     }
 
+    @Test
+    public void of_equalNames_returnsSameInstance() {
+        CompanyName companyName = CompanyName.of("Google");
+        assertSame(companyName, CompanyName.of(new String("Google")));
+        assertEquals(new CompanyName("Google"), companyName);
+        assertFalse(companyName.equals(CompanyName.of("Meta")));
+        assertThrows(IllegalArgumentException.class, () -> CompanyName.of(""));
+    }
+
     @Test
     public void equals() {
         CompanyName companyName = new CompanyName("Google");
@@ -1,9 +1,12 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class DeadlineTest {
@@ -35,6 +38,39 @@ public class DeadlineTest {
         assertTrue(Deadline.isValidDeadline("23/03/2024")); // Example of a valid deadline format (YYYY/MM/DD)
     }
 
+    @Test
+    public void getEpochDay_parsedOnce_matchesDate() {
+        Deadline deadline = new Deadline("23/03/2024");
+        assertEquals(LocalDate.of(2024, 3, 23).toEpochDay(), deadline.getEpochDay());
+        assertEquals(LocalDate.of(2024, 3, 23), deadline.getDate());
+        assertEquals(deadline, Deadline.fromDate(LocalDate.of(2024, 3, 23)));
+    }
+
+    @Test
+    public void compareTo_ordersByDate() {
+        Deadline earlier = new Deadline("31/12/2023");
+        Deadline later = new Deadline("01/01/2024");
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+        assertEquals(0, earlier.compareTo(new Deadline("31/12/2023")));
+    }
+
+    @Test
+    public void fromStorage() {
+        String epochDay = String.valueOf(LocalDate.of(2024, 3, 23).toEpochDay());
+
+        // stored epoch day of the same date -> used
+        assertEquals(new Deadline("23/03/2024"), Deadline.fromStorage("23/03/2024", epochDay));
+
+        // missing, unusable or stale epoch day -> deadline parsed instead
+        assertEquals(LocalDate.of(2024, 3, 23), Deadline.fromStorage("23/03/2024", null).getDate());
+        assertEquals(LocalDate.of(2024, 3, 23), Deadline.fromStorage("23/03/2024", "soon").getDate());
+        assertEquals(LocalDate.of(2025, 4, 25), Deadline.fromStorage("25/04/2025", epochDay).getDate());
+
+        // invalid deadline -> throws even with an epoch day
+        assertThrows(IllegalArgumentException.class, () -> Deadline.fromStorage("23-03-2024", epochDay));
+    }
+
     @Test
     public void equals() {
         Deadline deadline = new Deadline("23/03/2024");
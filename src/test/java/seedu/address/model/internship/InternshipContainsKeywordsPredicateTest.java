@@ -64,6 +64,42 @@ public class InternshipContainsKeywordsPredicateTest {
                 null, null, null, null, false);
         assertTrue(predicate.test(new InternshipBuilder().withCompanyName("Microsoft Google").build()));
     }
+    @Test
+    public void isRefinementOf() {
+        InternshipContainsKeywordsPredicate allGoogle = new InternshipContainsKeywordsPredicate("Google", null, null,
+                null, null, null, null, true);
+        InternshipContainsKeywordsPredicate allGoogleOrApple = new InternshipContainsKeywordsPredicate(
+                "Google Apple", null, null, null, null, null, null, true);
+        InternshipContainsKeywordsPredicate allGoogleRemote = new InternshipContainsKeywordsPredicate("Google", null,
+                "remote", null, null, null, null, true);
+        InternshipContainsKeywordsPredicate anyGoogle = new InternshipContainsKeywordsPredicate("Google", null, null,
+                null, null, null, null, false);
+        InternshipContainsKeywordsPredicate anyGoogleOrRemote = new InternshipContainsKeywordsPredicate("Google", null,
+                "remote", null, null, null, null, false);
+
+        // same predicate -> returns true
+        assertTrue(allGoogle.isRefinementOf(allGoogle));
+
+        // withall: fewer keywords or more fields -> returns true
+        assertTrue(allGoogle.isRefinementOf(allGoogleOrApple));
+        assertTrue(allGoogleRemote.isRefinementOf(allGoogle));
+
+        // withall: more keywords or fewer fields -> returns false
+        assertFalse(allGoogleOrApple.isRefinementOf(allGoogle));
+        assertFalse(allGoogle.isRefinementOf(allGoogleRemote));
+
+        // withany: fewer fields -> returns true, more fields -> returns false
+        assertTrue(anyGoogle.isRefinementOf(anyGoogleOrRemote));
+        assertFalse(anyGoogleOrRemote.isRefinementOf(anyGoogle));
+
+        // different keyword -> returns false
+        assertFalse(allGoogle.isRefinementOf(new InternshipContainsKeywordsPredicate("Goo", null, null, null, null,
+                null, null, true)));
+
+        // different mode -> returns false
+        assertFalse(anyGoogle.isRefinementOf(allGoogle));
+    }
+
     @Test
     public void toStringMethod() {
         String companyNameKeywords = "Google";
@@ -1,6 +1,8 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.InternshipCommandTestUtil.VALID_COMPANY_NAME_BOB;
 import static seedu.address.model.util.InternshipSampleDataUtil.EMPTY_REMARK;
@@ -70,6 +72,30 @@ public class InternshipTest {
         assertFalse(BOB.isSameInternship(editedBob));
     }
 
+    @Test
+    public void getIdentityKey() {
+        // same internship, different data fields -> same key
+        Internship editedAlice = new InternshipBuilder(ALICE_MICROSOFT).withLocation("local")
+                .withRole("Backend Engineer").withRemark("Follow up").build();
+        assertEquals(ALICE_MICROSOFT.getIdentityKey(), editedAlice.getIdentityKey());
+
+        // different identity field -> different key
+        editedAlice = new InternshipBuilder(ALICE_MICROSOFT).withDescription("Data Analyst Intern").build();
+        assertNotEquals(ALICE_MICROSOFT.getIdentityKey(), editedAlice.getIdentityKey());
+
+        // characters moved from one identity field to the next -> different key
+        Internship first = new InternshipBuilder().withCompanyName("Ab").withContactName("C").build();
+        Internship second = new InternshipBuilder().withCompanyName("A").withContactName("bC").build();
+        assertNotEquals(first.getIdentityKey(), second.getIdentityKey());
+    }
+
+    @Test
+    public void hashCode_equalInternships_sameHashCode() {
+        Internship aliceCopy = new InternshipBuilder(ALICE_MICROSOFT).build();
+        assertEquals(ALICE_MICROSOFT.hashCode(), aliceCopy.hashCode());
+        assertEquals(ALICE_MICROSOFT.hashCode(), ALICE_MICROSOFT.hashCode());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -1,6 +1,8 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -30,6 +32,15 @@ public class LocationTest {
         assertTrue(Location.isValidLocation("remote"));
     }
 
+    @Test
+    public void of_sameLocation_returnsCanonicalInstance() {
+        Location remote = Location.of("remote");
+        assertSame(remote, Location.of("REMOTE"));
+        assertEquals(new Location("remote"), remote);
+        assertFalse(remote.equals(Location.of("local")));
+        assertThrows(IllegalArgumentException.class, () -> Location.of("mars"));
+    }
+
     @Test
     public void equals() {
         Location location = new Location("local");
@@ -1,9 +1,12 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 public class RemarkTest {
     @Test
@@ -30,4 +33,41 @@ public class RemarkTest {
         // different values -> returns false
         assertFalse(remark.equals(new Remark("Write REST API endpoints")));
     }
+
+    @Test
+    public void lazy_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Remark.lazy(null, () -> ""));
+        assertThrows(NullPointerException.class, () -> Remark.lazy("", null));
+    }
+
+    @Test
+    public void lazy_onlyLoadsTextWhenNeeded() {
+        String text = "a".repeat(Remark.PREVIEW_LENGTH + 1);
+        AtomicInteger loadCount = new AtomicInteger();
+        Remark remark = Remark.lazy(text, () -> {
+            loadCount.incrementAndGet();
+            return text;
+        });
+
+        assertFalse(remark.isInMemory());
+        assertEquals("a".repeat(Remark.PREVIEW_LENGTH) + "...", remark.getPreview());
+        assertEquals(text.hashCode(), remark.hashCode());
+        assertEquals(0, loadCount.get());
+
+        // different previews -> not loaded
+        assertFalse(remark.equals(new Remark("b" + text)));
+        assertEquals(0, loadCount.get());
+
+        // same text -> loaded
+        assertTrue(remark.equals(new Remark(text)));
+        assertEquals(text, remark.toString());
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void getPreview_shortRemark_returnsWholeRemark() {
+        Remark remark = new Remark("Has a behavioural interview!");
+        assertTrue(remark.isInMemory());
+        assertEquals("Has a behavioural interview!", remark.getPreview());
+    }
 }
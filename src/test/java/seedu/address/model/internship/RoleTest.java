@@ -1,6 +1,8 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -25,6 +27,14 @@ public class RoleTest {
         assertTrue(Role.isValidRole("UI Designer"));
     }
 
+    @Test
+    public void of_equalRoles_returnsSameInstance() {
+        Role role = Role.of("Software Engineer");
+        assertSame(role, Role.of(new String("Software Engineer")));
+        assertEquals(new Role("Software Engineer"), role);
+        assertThrows(IllegalArgumentException.class, () -> Role.of(" "));
+    }
+
     @Test
     public void equals() {
         Role role = new Role("UI Designer");
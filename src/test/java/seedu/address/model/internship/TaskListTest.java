@@ -17,8 +17,8 @@ public class TaskListTest {
     @Test
     public void addTaskTest() {
         TaskList taskList = new TaskList();
-        taskList.addTask(new Task("Submit Supporting Documents"));
-        taskList.addTask(new Task("Finish Resume"));
+        taskList = taskList.addTask(new Task("Submit Supporting Documents"));
+        taskList = taskList.addTask(new Task("Finish Resume"));
         assertEquals(taskList.getTaskListSize(), 2);
     }
 
@@ -27,19 +27,40 @@ public class TaskListTest {
         TaskList taskList = new TaskList();
         Task task = new Task("Submit Supporting Documents");
         Task task2 = new Task("Finish Resume");
-        taskList.addTask(task);
-        taskList.addTask(task2);
-        taskList.deleteTask(0);
+        taskList = taskList.addTask(task);
+        taskList = taskList.addTask(task2);
+        taskList = taskList.deleteTask(0);
         assertEquals(taskList.getTaskListSize(), 1);
-        taskList.deleteTask(0);
+        taskList = taskList.deleteTask(0);
         assertEquals(taskList.getTaskListSize(), 0);
     }
 
+    @Test
+    public void getEarliestDeadline_tasksChanged_followsChanges() {
+        TaskList taskList = new TaskList("Interview (13/03/2033); Submit Resume");
+        assertEquals(new Deadline("13/03/2033"), taskList.getEarliestDeadline().orElseThrow());
+
+        taskList = taskList.addTask(new Task("OA", "01/02/2024"));
+        assertEquals(new Deadline("01/02/2024"), taskList.getEarliestDeadline().orElseThrow());
+
+        taskList = taskList.setTask(1, new Task("Submit Resume", "02/02/2024"));
+        assertEquals(new Deadline("01/02/2024"), taskList.getEarliestDeadline().orElseThrow());
+
+        taskList = taskList.deleteTask(2);
+        assertEquals(new Deadline("02/02/2024"), taskList.getEarliestDeadline().orElseThrow());
+
+        taskList = taskList.setTask(1, new Task("Submit Resume"));
+        assertEquals(new Deadline("13/03/2033"), taskList.getEarliestDeadline().orElseThrow());
+
+        taskList = taskList.deleteTask(0);
+        assertTrue(taskList.getEarliestDeadline().isEmpty());
+    }
+
     @Test
     public void getTaskTest() {
         TaskList taskList = new TaskList();
-        taskList.addTask(new Task("Submit Supporting Documents"));
-        taskList.addTask(new Task("Finish Resume"));
+        taskList = taskList.addTask(new Task("Submit Supporting Documents"));
+        taskList = taskList.addTask(new Task("Finish Resume"));
         assertEquals(taskList.getTask(0), new Task("Submit Supporting Documents"));
         assertEquals(taskList.getTask(1), new Task("Finish Resume"));
     }
@@ -47,36 +68,40 @@ public class TaskListTest {
     @Test
     public void getTaskListSizeTest() {
         TaskList taskList = new TaskList();
-        taskList.addTask(new Task("Submit Supporting Documents"));
-        taskList.addTask(new Task("Finish Resume"));
+        taskList = taskList.addTask(new Task("Submit Supporting Documents"));
+        taskList = taskList.addTask(new Task("Finish Resume"));
         assertEquals(taskList.getTaskListSize(), 2);
     }
 
     @Test
-    public void copyTest() {
-        TaskList taskList = new TaskList();
-        taskList.addTask(new Task("Submit Supporting Documents"));
-        taskList.addTask(new Task("Finish Resume"));
-        TaskList taskListCopy = taskList.copy();
-        assertEquals(taskList, taskListCopy);
+    public void updates_leaveOriginalUnchanged() {
+        TaskList taskList = new TaskList("Submit Supporting Documents; Finish Resume (25/05/2025)");
+        TaskList original = new TaskList("Submit Supporting Documents; Finish Resume (25/05/2025)");
+
+        taskList.addTask(new Task("OA", "01/02/2024"));
+        taskList.setTask(0, new Task("Interview"));
+        taskList.deleteTask(1);
+
+        assertEquals(original, taskList);
+        assertEquals(new Deadline("25/05/2025"), taskList.getEarliestDeadline().orElseThrow());
     }
 
     @Test
     public void equals() {
         TaskList taskList = new TaskList();
-        taskList.addTask(new Task("Submit Supporting Documents", "24/04/2024"));
-        taskList.addTask(new Task("Finish Resume", "25/05/2025"));
+        taskList = taskList.addTask(new Task("Submit Supporting Documents", "24/04/2024"));
+        taskList = taskList.addTask(new Task("Finish Resume", "25/05/2025"));
 
         // same values -> returns true
         TaskList taskList2 = new TaskList();
-        taskList2.addTask(new Task("Submit Supporting Documents", "24/04/2024"));
-        taskList2.addTask(new Task("Finish Resume", "25/05/2025"));
+        taskList2 = taskList2.addTask(new Task("Submit Supporting Documents", "24/04/2024"));
+        taskList2 = taskList2.addTask(new Task("Finish Resume", "25/05/2025"));
         assertTrue(taskList2.equals(taskList));
 
         // one task has a different deadline -> returns false
         TaskList taskList3 = new TaskList();
-        taskList2.addTask(new Task("Submit Supporting Documents", "26/06/2026"));
-        taskList2.addTask(new Task("Finish Resume", "25/05/2025"));
+        taskList2 = taskList2.addTask(new Task("Submit Supporting Documents", "26/06/2026"));
+        taskList2 = taskList2.addTask(new Task("Finish Resume", "25/05/2025"));
         assertFalse(taskList3.equals(taskList));
 
         // same object -> returns true
@@ -90,7 +115,7 @@ public class TaskListTest {
 
         // different values -> returns false
         TaskList taskList4 = new TaskList();
-        taskList3.addTask(new Task("Submit Supporting Documents"));
+        taskList3 = taskList3.addTask(new Task("Submit Supporting Documents"));
         assertFalse(taskList4.equals(taskList));
     }
 
@@ -98,14 +123,14 @@ public class TaskListTest {
     public void string() {
         // without deadline
         TaskList taskList = new TaskList();
-        taskList.addTask(new Task("Submit Supporting Documents"));
-        taskList.addTask(new Task("Finish Resume"));
+        taskList = taskList.addTask(new Task("Submit Supporting Documents"));
+        taskList = taskList.addTask(new Task("Finish Resume"));
         assertEquals(taskList.toString(), "1. Submit Supporting Documents\n2. Finish Resume\n");
 
         // with deadline
         TaskList taskList2 = new TaskList();
-        taskList2.addTask(new Task("Submit Supporting Documents", "24/04/2024"));
-        taskList2.addTask(new Task("Finish Resume"));
+        taskList2 = taskList2.addTask(new Task("Submit Supporting Documents", "24/04/2024"));
+        taskList2 = taskList2.addTask(new Task("Finish Resume"));
         assertEquals(taskList2.toString(), "1. Submit Supporting Documents Deadline: 24/04/2024"
                 + "\n2. Finish Resume\n");
     }
@@ -1,10 +1,15 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
 public class TaskTest {
     @Test
     public void constructor_null_throwsNullPointerException() {
@@ -51,4 +56,27 @@ public class TaskTest {
         // different values -> returns false
         assertFalse(task.equals(new Task("Complete Behavioural Assessment Form")));
     }
+
+    @Test
+    public void withDeadline_returnsNewTask() {
+        Task task = new Task("Submit Supporting Documents");
+        Task taskWithDeadline = task.withDeadline(new Deadline("24/04/2024"));
+
+        assertTrue(taskWithDeadline.equals(new Task("Submit Supporting Documents", "24/04/2024")));
+
+        // original task is not modified
+        assertTrue(task.equals(new Task("Submit Supporting Documents")));
+        assertFalse(task.equals(taskWithDeadline));
+    }
+
+    @Test
+    public void json_deadlineWithEpochDay_roundTrips() throws Exception {
+        Task task = new Task("Submit Supporting Documents", "24/04/2024");
+        String json = JsonUtil.toJsonString(task);
+        assertTrue(json.contains("\"epochDay\" : " + LocalDate.of(2024, 4, 24).toEpochDay()));
+
+        Task readTask = JsonUtil.fromJsonString(json, Task.class);
+        assertEquals(task, readTask);
+        assertEquals(LocalDate.of(2024, 4, 24), readTask.getDeadline().orElseThrow().getDate());
+    }
 }
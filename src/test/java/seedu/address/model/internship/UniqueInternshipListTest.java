@@ -1,6 +1,7 @@
 package seedu.address.model.internship;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -10,11 +11,13 @@ import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.internship.exceptions.DuplicateInternshipException;
 import seedu.address.model.internship.exceptions.InternshipNotFoundException;
+import javafx.collections.ListChangeListener;
 import seedu.address.testutil.InternshipBuilder;
 
 public class UniqueInternshipListTest {
@@ -128,6 +131,51 @@ public class UniqueInternshipListTest {
         assertEquals(expectedUniqueInternshipList, uniqueInternshipList);
     }
 
+    @Test
+    public void removeIf_matchingInternships_removesOnlyMatches() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        uniqueInternshipList.add(BENSON_GOOGLE);
+        List<Internship> removed = uniqueInternshipList.removeIf(ALICE_MICROSOFT::equals);
+        assertEquals(Collections.singletonList(ALICE_MICROSOFT), removed);
+        UniqueInternshipList expectedUniqueInternshipList = new UniqueInternshipList();
+        expectedUniqueInternshipList.add(BENSON_GOOGLE);
+        assertEquals(expectedUniqueInternshipList, uniqueInternshipList);
+        assertEquals(expectedUniqueInternshipList.getSnapshot().toList(), uniqueInternshipList.getSnapshot().toList());
+    }
+
+    @Test
+    public void removeIf_noMatches_returnsEmptyList() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        assertTrue(uniqueInternshipList.removeIf(unused -> false).isEmpty());
+        assertTrue(uniqueInternshipList.contains(ALICE_MICROSOFT));
+    }
+
+    @Test
+    public void replaceIf_matchingInternships_replacesOnlyMatches() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        uniqueInternshipList.add(BENSON_GOOGLE);
+        Internship editedBenson = new InternshipBuilder(BENSON_GOOGLE).withLocation("remote").build();
+        List<Internship> edited = uniqueInternshipList.replaceIf(BENSON_GOOGLE::equals, unused -> editedBenson);
+        assertEquals(Collections.singletonList(editedBenson), edited);
+        UniqueInternshipList expectedUniqueInternshipList = new UniqueInternshipList();
+        expectedUniqueInternshipList.add(ALICE_MICROSOFT);
+        expectedUniqueInternshipList.add(editedBenson);
+        assertEquals(expectedUniqueInternshipList, uniqueInternshipList);
+        assertEquals(expectedUniqueInternshipList.getSnapshot().toList(), uniqueInternshipList.getSnapshot().toList());
+    }
+
+    @Test
+    public void replaceIf_editsCreateDuplicate_throwsDuplicateInternshipExceptionAndLeavesListUnchanged() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        uniqueInternshipList.add(BENSON_GOOGLE);
+        assertThrows(DuplicateInternshipException.class, () ->
+                uniqueInternshipList.replaceIf(BENSON_GOOGLE::equals, unused -> ALICE_MICROSOFT));
+        UniqueInternshipList expectedUniqueInternshipList = new UniqueInternshipList();
+        expectedUniqueInternshipList.add(ALICE_MICROSOFT);
+        expectedUniqueInternshipList.add(BENSON_GOOGLE);
+        assertEquals(expectedUniqueInternshipList, uniqueInternshipList);
+    }
+
     @Test
     public void setInternships_nullUniqueInternshipList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
@@ -228,6 +276,87 @@ public class UniqueInternshipListTest {
         assertEquals(internshipList1, internshipList2);
     }
 
+    @Test
+    public void batch_multipleOperations_appliedAsSingleChange() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        AtomicInteger changeCount = new AtomicInteger();
+        uniqueInternshipList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Internship>) change -> changeCount.incrementAndGet());
+        Internship editedAlice = new InternshipBuilder(ALICE_MICROSOFT).withLocation("local").build();
+        Internship other = new InternshipBuilder().withCompanyName("Other").build();
+
+        UniqueInternshipList.Batch batch = uniqueInternshipList.batch()
+                .add(BENSON_GOOGLE)
+                .setInternship(ALICE_MICROSOFT, editedAlice)
+                .add(other)
+                .remove(BENSON_GOOGLE);
+        assertEquals(0, changeCount.get());
+        assertEquals(Collections.singletonList(ALICE_MICROSOFT), uniqueInternshipList.asUnmodifiableObservableList());
+
+        batch.commit();
+        assertEquals(1, changeCount.get());
+        assertEquals(Arrays.asList(editedAlice, other), uniqueInternshipList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(editedAlice, other), uniqueInternshipList.getSnapshot().toList());
+    }
+
+    @Test
+    public void batch_noOperations_noChange() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        AtomicInteger changeCount = new AtomicInteger();
+        uniqueInternshipList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Internship>) change -> changeCount.incrementAndGet());
+        UniqueInternshipList.Batch batch = uniqueInternshipList.batch();
+        Object snapshot = uniqueInternshipList.getSnapshot();
+        batch.commit();
+        assertEquals(0, changeCount.get());
+        assertSame(snapshot, uniqueInternshipList.getSnapshot());
+    }
+
+    @Test
+    public void batch_duplicateInBatch_throwsDuplicateInternshipException() {
+        UniqueInternshipList.Batch batch = uniqueInternshipList.batch().add(ALICE_MICROSOFT);
+        assertTrue(batch.contains(ALICE_MICROSOFT));
+        assertFalse(uniqueInternshipList.contains(ALICE_MICROSOFT));
+        assertThrows(DuplicateInternshipException.class, () -> batch.add(ALICE_MICROSOFT));
+        assertThrows(DuplicateInternshipException.class, () -> batch.add(BENSON_GOOGLE)
+                .setInternship(BENSON_GOOGLE, ALICE_MICROSOFT));
+    }
+
+    @Test
+    public void batch_removedThenAddedAgain_success() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        uniqueInternshipList.batch().remove(ALICE_MICROSOFT).add(ALICE_MICROSOFT).commit();
+        assertEquals(Collections.singletonList(ALICE_MICROSOFT), uniqueInternshipList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void batch_internshipNotInList_throwsInternshipNotFoundException() {
+        UniqueInternshipList.Batch batch = uniqueInternshipList.batch();
+        assertThrows(InternshipNotFoundException.class, () -> batch.remove(ALICE_MICROSOFT));
+        assertThrows(InternshipNotFoundException.class, () -> batch.setInternship(ALICE_MICROSOFT, BENSON_GOOGLE));
+    }
+
+    @Test
+    public void batch_notCommitted_listUnchanged() {
+        uniqueInternshipList.batch().add(ALICE_MICROSOFT);
+        assertTrue(uniqueInternshipList.isEmpty());
+    }
+
+    @Test
+    public void batch_listChangedAfterBatchStarted_throwsIllegalStateException() {
+        UniqueInternshipList.Batch batch = uniqueInternshipList.batch().add(ALICE_MICROSOFT);
+        uniqueInternshipList.add(BENSON_GOOGLE);
+        assertThrows(IllegalStateException.class, batch::commit);
+        assertEquals(Collections.singletonList(BENSON_GOOGLE), uniqueInternshipList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void batch_committedTwice_throwsIllegalStateException() {
+        UniqueInternshipList.Batch batch = uniqueInternshipList.batch().add(ALICE_MICROSOFT);
+        batch.commit();
+        assertThrows(IllegalStateException.class, batch::commit);
+    }
+
     @Test
     public void asUnmodifiableObservableList() {
         UniqueInternshipList internshipList = new UniqueInternshipList();
@@ -0,0 +1,70 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        Interner<String> interner = new Interner<>();
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        Interner<String> interner = new Interner<>();
+        String first = new String("Google");
+        String second = new String("Google");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_keepsBoth() {
+        Interner<String> interner = new Interner<>();
+        String google = interner.intern("Google");
+        String meta = interner.intern("Meta");
+        assertSame(google, interner.intern(new String("Google")));
+        assertSame(meta, interner.intern(new String("Meta")));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void estimateBytesSaved_sharedInstances_countsEachRepeat() {
+        String google = "Google";
+        String meta = "Meta";
+        assertEquals(0, Interner.estimateBytesSaved(List.of(), value -> 100));
+        assertEquals(0, Interner.estimateBytesSaved(List.of(google, meta), value -> 100));
+        assertEquals(300, Interner.estimateBytesSaved(List.of(google, meta, google, google, meta), value -> 100));
+    }
+
+    @Test
+    public void estimateBytesSaved_equalButSeparateInstances_countsNothing() {
+        List<String> values = List.of(new String("Google"), new String("Google"));
+        assertEquals(0, Interner.estimateBytesSaved(values, value -> 100));
+    }
+
+    @Test
+    public void estimateBytesSaved_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Interner.estimateBytesSaved(null, value -> 100));
+        assertThrows(NullPointerException.class, () -> Interner.estimateBytesSaved(List.of(), null));
+    }
+
+    @Test
+    public void estimateStringWrapperSize() {
+        // wrapper + string + byte array padded to 8 bytes
+        assertEquals(16 + 24 + 16, Interner.estimateStringWrapperSize(""));
+        assertEquals(16 + 24 + 24, Interner.estimateStringWrapperSize("Google"));
+        assertThrows(NullPointerException.class, () -> Interner.estimateStringWrapperSize(null));
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        PersistentVector<String> vector = PersistentVector.empty();
+        assertTrue(vector.isEmpty());
+        assertEquals(0, vector.size());
+        assertEquals(List.of(), vector.toList());
+    }
+
+    @Test
+    public void of_keepsOrder() {
+        List<String> items = Arrays.asList("a", "b", "c", "d", "e");
+        PersistentVector<String> vector = PersistentVector.of(items);
+        assertEquals(items, vector.toList());
+        assertEquals("c", vector.get(2));
+    }
+
+    @Test
+    public void updates_leaveOriginalUnchanged() {
+        PersistentVector<String> original = PersistentVector.of(Arrays.asList("a", "b", "c"));
+
+        PersistentVector<String> appended = original.append("d");
+        PersistentVector<String> inserted = original.insert(0, "z");
+        PersistentVector<String> replaced = original.set(1, "x");
+        PersistentVector<String> removed = original.remove(1);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.toList());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), appended.toList());
+        assertEquals(Arrays.asList("z", "a", "b", "c"), inserted.toList());
+        assertEquals(Arrays.asList("a", "x", "c"), replaced.toList());
+        assertEquals(Arrays.asList("a", "c"), removed.toList());
+    }
+
+    @Test
+    public void set_sameElement_returnsSameVector() {
+        String element = "b";
+        PersistentVector<String> vector = PersistentVector.of(Arrays.asList("a", element));
+        assertSame(vector, vector.set(1, element));
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentVector<String> vector = PersistentVector.of(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.set(-1, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.insert(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.remove(2));
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                vector = vector.insert(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                vector = vector.set(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.remove(index);
+            } else {
+                expected.add(i);
+                vector = vector.append(i);
+            }
+            assertEquals(expected.size(), vector.size());
+        }
+
+        assertEquals(expected, vector.toList());
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.AMY;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.util.PersistentVector;
+
+public class InternshipDataSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void save_snapshot_writesSnapshotToStorage() throws Exception {
+        JsonInternshipDataStorage storage = new JsonInternshipDataStorage(testFolder.resolve("data.json"));
+        InternshipDataSaver saver = new InternshipDataSaver(storage, executor);
+        PersistentVector<Internship> snapshot = PersistentVector.of(List.of(ALICE_MICROSOFT, BENSON_GOOGLE));
+
+        saver.save(snapshot);
+        saver.shutdown();
+
+        assertEquals(snapshot.toList(), storage.readInternshipData().get().getInternshipList());
+    }
+
+    @Test
+    public void save_whileSaving_savesLatestSnapshotOnly() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveReleased = new CountDownLatch(1);
+        List<List<Internship>> saved = new ArrayList<>();
+        InternshipDataStorage storage = new JsonInternshipDataStorage(testFolder.resolve("data.json")) {
+            @Override
+            public void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath) {
+                saved.add(new ArrayList<>(internshipData.getInternshipList()));
+                firstSaveStarted.countDown();
+                try {
+                    firstSaveReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        InternshipDataSaver saver = new InternshipDataSaver(storage, executor);
+        PersistentVector<Internship> first = PersistentVector.of(List.of(ALICE_MICROSOFT));
+
+        saver.save(first);
+        firstSaveStarted.await();
+        saver.save(first.append(BENSON_GOOGLE));
+        saver.save(first.append(AMY));
+        firstSaveReleased.countDown();
+        saver.shutdown();
+
+        assertEquals(List.of(List.of(ALICE_MICROSOFT), List.of(ALICE_MICROSOFT, AMY)), saved);
+    }
+
+    @Test
+    public void save_afterFailedSave_throwsIoException() throws Exception {
+        IOException error = new IOException("dummy IO exception");
+        InternshipDataStorage storage = new JsonInternshipDataStorage(testFolder.resolve("data.json")) {
+            @Override
+            public void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath)
+                    throws IOException {
+                throw error;
+            }
+        };
+        InternshipDataSaver saver = new InternshipDataSaver(storage, executor);
+
+        saver.save(PersistentVector.of(List.of(ALICE_MICROSOFT)));
+        // the executor runs one task at a time, so this waits for the save to fail
+        executor.submit(() -> { }).get();
+
+        assertThrows(IOException.class, error.getMessage(), () -> saver.save(PersistentVector.of(List.of(AMY))));
+    }
+
+    @Test
+    public void save_nullSnapshot_throwsNullPointerException() {
+        InternshipDataSaver saver = new InternshipDataSaver(
+                new JsonInternshipDataStorage(testFolder.resolve("data.json")), executor);
+        assertThrows(NullPointerException.class, () -> saver.save(null));
+    }
+}
@@ -1,22 +1,27 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.storage.JsonAdaptedInternship.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
 
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.internship.ApplicationStatus;
 import seedu.address.model.internship.CompanyName;
 import seedu.address.model.internship.ContactEmail;
 import seedu.address.model.internship.ContactName;
 import seedu.address.model.internship.ContactNumber;
 import seedu.address.model.internship.Description;
+import seedu.address.model.internship.Internship;
 import seedu.address.model.internship.Location;
+import seedu.address.model.internship.Remark;
 import seedu.address.model.internship.Role;
 import seedu.address.model.internship.Task;
 
@@ -46,6 +51,24 @@ public class JsonAdaptedInternshipTest {
         assertEquals(ALICE_MICROSOFT, internship.toModelType());
     }
 
+    @Test
+    public void constructor_lazyRemark_loadedOnlyWhenWritten() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        Remark lazyRemark = Remark.lazy(VALID_REMARK, () -> {
+            loadCount.incrementAndGet();
+            return VALID_REMARK;
+        });
+        Internship source = ALICE_MICROSOFT;
+        JsonAdaptedInternship internship = new JsonAdaptedInternship(new Internship(source.getCompanyName(),
+                source.getContactName(), source.getContactEmail(), source.getContactNumber(), source.getLocation(),
+                source.getApplicationStatus(), source.getDescription(), source.getRole(), lazyRemark,
+                source.getTaskList()));
+        assertEquals(0, loadCount.get());
+
+        assertTrue(JsonUtil.toJsonString(internship).contains(VALID_REMARK));
+        assertEquals(1, loadCount.get());
+    }
+
     @Test
     public void toModelType_invalidCompanyName_throwsIllegalValueException() {
         JsonAdaptedInternship internship =
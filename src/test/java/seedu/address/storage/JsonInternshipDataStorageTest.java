@@ -3,6 +3,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
 import static seedu.address.testutil.TypicalInternships.HOON_APPLE;
@@ -19,6 +20,8 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.InternshipData;
 import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.testutil.InternshipBuilder;
 
 public class JsonInternshipDataStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonInternshipDataStorageTest");
@@ -89,6 +92,38 @@ public class JsonInternshipDataStorageTest {
 
     }
 
+    @Test
+    public void readInternshipData_withRemarkFile_keepsLongRemarksInFile() throws Exception {
+        Path filePath = testFolder.resolve("TempInternshipData.json");
+        String longRemark = "Ask about the team. ".repeat(20);
+        Internship longRemarkInternship = new InternshipBuilder(HOON_APPLE).withRemark(longRemark).build();
+        InternshipData original = new InternshipData();
+        original.addInternship(ALICE_MICROSOFT);
+        original.addInternship(longRemarkInternship);
+        new JsonInternshipDataStorage(filePath).saveInternshipData(original);
+
+        try (TextBlobFile remarkFile = new TextBlobFile(testFolder.resolve("remarks.blob"), 1)) {
+            JsonInternshipDataStorage storage = new JsonInternshipDataStorage(filePath, remarkFile, 100);
+            ReadOnlyInternshipData readBack = storage.readInternshipData().get();
+            assertEquals(original, new InternshipData(readBack));
+
+            // short remark -> kept in memory
+            assertTrue(readBack.getInternshipList().get(0).getRemark().isInMemory());
+            assertEquals(ALICE_MICROSOFT.getRemark(), readBack.getInternshipList().get(0).getRemark());
+
+            // long remark -> kept in the remark file
+            assertFalse(readBack.getInternshipList().get(1).getRemark().isInMemory());
+            assertEquals(longRemark, readBack.getInternshipList().get(1).getRemark().toString());
+            assertEquals(longRemark.length(), remarkFile.getSize());
+
+            // saving loads the long remark back
+            Path copyPath = testFolder.resolve("TempInternshipDataCopy.json");
+            storage.saveInternshipData(readBack, copyPath);
+            ReadOnlyInternshipData copy = new JsonInternshipDataStorage(copyPath).readInternshipData().get();
+            assertEquals(longRemark, copy.getInternshipList().get(1).getRemark().toString());
+        }
+    }
+
     @Test
     public void saveInternshipData_nullInternshipData_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveInternshipData(null, "SomeFile.json"));
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TextBlobFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidCacheSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TextBlobFile(testFolder.resolve("texts.blob"), 0));
+    }
+
+    @Test
+    public void append_texts_readBack() throws Exception {
+        try (TextBlobFile file = new TextBlobFile(testFolder.resolve("texts.blob"), 2)) {
+            Supplier<String> first = file.append("First remark");
+            Supplier<String> empty = file.append("");
+            Supplier<String> unicode = file.append("Café interview – 面试");
+
+            assertEquals("First remark", first.get());
+            assertEquals("", empty.get());
+            assertEquals("Café interview – 面试", unicode.get());
+
+            // read again, from the cache or the file
+            assertEquals("First remark", first.get());
+        }
+    }
+
+    @Test
+    public void read_manyTexts_cacheStaysBounded() throws Exception {
+        try (TextBlobFile file = new TextBlobFile(testFolder.resolve("texts.blob"), 2)) {
+            Supplier<String> first = file.append("one");
+            Supplier<String> second = file.append("two");
+            Supplier<String> third = file.append("three");
+            assertEquals(0, file.getCachedCount());
+
+            first.get();
+            second.get();
+            third.get();
+            assertEquals(2, file.getCachedCount());
+
+            // evicted texts are read from the file again
+            assertEquals("one", first.get());
+            assertEquals(2, file.getCachedCount());
+            assertEquals(11, file.getSize());
+        }
+    }
+
+    @Test
+    public void append_null_throwsNullPointerException() throws Exception {
+        try (TextBlobFile file = new TextBlobFile(testFolder.resolve("texts.blob"), 2)) {
+            assertThrows(NullPointerException.class, () -> file.append(null));
+        }
+    }
+}
@@ -64,7 +64,7 @@ public class InternshipUtil {
         descriptor.getRole().ifPresent(
                 role -> sb.append(PREFIX_ROLE).append(" ").append(role.role).append(" "));
         descriptor.getRemark().ifPresent(
-                remark -> sb.append(PREFIX_REMARK).append(" ").append(remark.value).append(" "));
+                remark -> sb.append(PREFIX_REMARK).append(" ").append(remark).append(" "));
         // TaskList is not included in the EditInternshipDescriptor because we can't add tasks through the edit command
         return sb.toString();
     }
@@ -0,0 +1,150 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalInternships.AMY;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.InternshipLogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.InternshipDeleteCommand;
+import seedu.address.logic.commands.InternshipListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.InternshipData;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+import seedu.address.storage.InternshipStorageManager;
+import seedu.address.storage.JsonInternshipDataStorage;
+import seedu.address.storage.JsonInternshipUserPrefsStorage;
+import seedu.address.testutil.InternshipUtil;
+
+public class CommandPipelineTest {
+
+    private static final String FX_THREAD_NAME = "fx-stand-in";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final InternshipModel model = new InternshipModelManager(getTypicalInternshipData(),
+            new InternshipUserPrefs());
+    private final ExecutorService fxThread = Executors.newSingleThreadExecutor(
+        runnable -> new Thread(runnable, FX_THREAD_NAME));
+    private CommandPipeline pipeline;
+
+    @BeforeEach
+    public void setUp() {
+        JsonInternshipDataStorage internshipDataStorage =
+                new JsonInternshipDataStorage(temporaryFolder.resolve("internshipdata.json"));
+        JsonInternshipUserPrefsStorage userPrefsStorage =
+                new JsonInternshipUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        InternshipStorageManager storage = new InternshipStorageManager(internshipDataStorage, userPrefsStorage);
+        pipeline = new CommandPipeline(new InternshipLogicManager(model, storage), fxThread);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pipeline.shutdown();
+        fxThread.shutdownNow();
+    }
+
+    @Test
+    public void constructor_displaysModelList() {
+        assertEquals(model.getFilteredInternshipList(), pipeline.getDisplayedInternshipList());
+    }
+
+    @Test
+    public void submit_validCommand_updatesDisplayedListOnFxThreadInOneChange() throws Exception {
+        List<String> changeThreads = Collections.synchronizedList(new ArrayList<>());
+        pipeline.getDisplayedInternshipList().addListener((ListChangeListener.Change<?> change) ->
+                changeThreads.add(Thread.currentThread().getName()));
+
+        submitOnFxThread(InternshipUtil.getAddCommand(AMY)).get();
+
+        assertEquals(List.of(FX_THREAD_NAME), changeThreads);
+        assertEquals(model.getFilteredInternshipList(), pipeline.getDisplayedInternshipList());
+        assertTrue(pipeline.getDisplayedInternshipList().contains(AMY));
+    }
+
+    @Test
+    public void submit_invalidCommand_futureFailsWithParseException() throws Exception {
+        CompletableFuture<CommandResult> future = submitOnFxThread("uicfhmowqewca");
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof ParseException);
+    }
+
+    @Test
+    public void submit_severalCommands_appliedInSubmissionOrder() throws Exception {
+        int initialSize = model.getFilteredInternshipList().size();
+
+        // the delete only succeeds if the add before it has already been applied
+        CompletableFuture<CommandResult> add = submitOnFxThread(InternshipUtil.getAddCommand(AMY));
+        CompletableFuture<CommandResult> delete = submitOnFxThread(InternshipDeleteCommand.COMMAND_WORD + " "
+                + (initialSize + 1));
+        CompletableFuture<CommandResult> list = submitOnFxThread(InternshipListCommand.COMMAND_WORD);
+        CompletableFuture.allOf(add, delete, list).get();
+
+        assertEquals(initialSize, pipeline.getDisplayedInternshipList().size());
+        assertEquals(0, pipeline.pendingCountProperty().get());
+    }
+
+    @Test
+    public void run_actionThrowsError_futureFailsAndPendingCountDrops() throws Exception {
+        CompletableFuture<Void> future = fxThread.submit(() -> pipeline.run(() -> {
+            throw new AssertionError("failed assertion");
+        })).get();
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof AssertionError);
+        assertEquals(0, pipeline.pendingCountProperty().get());
+    }
+
+    @Test
+    public void run_setSelectedInternship_updatesDisplayedSelection() throws Exception {
+        fxThread.submit(() -> pipeline.run(() ->
+                model.setSelectedInternship(model.getFilteredInternshipList().get(0)))).get().get();
+        assertSame(model.getFilteredInternshipList().get(0), pipeline.displayedSelectedInternshipProperty().get());
+    }
+
+    @Test
+    public void run_loadDataNotReady_laterCommandsWaitForData() throws Exception {
+        int initialSize = model.getFilteredInternshipList().size();
+        CompletableFuture<InternshipData> data = new CompletableFuture<>();
+        CompletableFuture<Void> load = fxThread.submit(() -> pipeline.run(() ->
+                model.loadInternshipData(data.join()))).get();
+        // the delete only succeeds once the data is loaded, as it refers to an internship only in the loaded data
+        CompletableFuture<CommandResult> delete = submitOnFxThread(InternshipDeleteCommand.COMMAND_WORD + " "
+                + (initialSize + 1));
+
+        InternshipData loadedData = getTypicalInternshipData();
+        loadedData.addInternship(AMY);
+        data.complete(loadedData);
+        CompletableFuture.allOf(load, delete).get();
+        assertEquals(initialSize, pipeline.getDisplayedInternshipList().size());
+        assertFalse(pipeline.getDisplayedInternshipList().contains(AMY));
+    }
+
+    /**
+     * Submits {@code commandText} from the stand-in FX thread, as the command box does.
+     */
+    private CompletableFuture<CommandResult> submitOnFxThread(String commandText) throws Exception {
+        return fxThread.submit(() -> pipeline.submit(commandText)).get();
+    }
+}
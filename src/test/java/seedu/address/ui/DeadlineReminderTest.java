@@ -0,0 +1,102 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalInternships.CARL_OPENAI;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.InternshipLogicManager;
+import seedu.address.model.DeadlineIndex.DueTask;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+import seedu.address.model.internship.Task;
+import seedu.address.storage.InternshipStorageManager;
+import seedu.address.storage.JsonInternshipDataStorage;
+import seedu.address.storage.JsonInternshipUserPrefsStorage;
+
+public class DeadlineReminderTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Singapore");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ExecutorService fxThread = Executors.newSingleThreadExecutor();
+    private InternshipLogicManager logic;
+    private CommandPipeline pipeline;
+    private DeadlineReminder deadlineReminder;
+
+    @BeforeEach
+    public void setUp() {
+        InternshipStorageManager storage = new InternshipStorageManager(
+                new JsonInternshipDataStorage(temporaryFolder.resolve("internshipdata.json")),
+                new JsonInternshipUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new InternshipLogicManager(
+                new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs()), storage);
+        pipeline = new CommandPipeline(logic, fxThread);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (deadlineReminder != null) {
+            deadlineReminder.shutdown();
+        }
+        pipeline.shutdown();
+        fxThread.shutdownNow();
+    }
+
+    @Test
+    public void start_taskDueTomorrow_remindsOfTask() throws Exception {
+        CompletableFuture<String> reminder = startOn(LocalDate.of(2033, 3, 12));
+        Task task = CARL_OPENAI.getTaskList().getTask(0);
+        String expectedReminder = DeadlineReminder.formatReminder(
+                List.of(new DueTask(CARL_OPENAI, task, task.getDeadline().orElseThrow())));
+        assertEquals(expectedReminder, reminder.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void start_noTasksDue_doesNotRemind() throws Exception {
+        CompletableFuture<String> reminder = startOn(LocalDate.of(2033, 3, 14));
+        // the look-up is done once the commands queued after it are done
+        fxThread.submit(() -> pipeline.run(() -> { })).get().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertFalse(reminder.isDone());
+    }
+
+    @Test
+    public void getMillisUntilNextDay() {
+        ZonedDateTime lateEvening = LocalDateTime.of(2024, 4, 20, 23, 59, 30).atZone(ZONE);
+        assertEquals(30_000, DeadlineReminder.getMillisUntilNextDay(lateEvening));
+
+        ZonedDateTime midnight = LocalDate.of(2024, 4, 20).atStartOfDay(ZONE);
+        assertEquals(TimeUnit.DAYS.toMillis(1), DeadlineReminder.getMillisUntilNextDay(midnight));
+    }
+
+    /**
+     * Starts reminders on the stand-in FX thread on {@code today}, and returns the first reminder.
+     */
+    private CompletableFuture<String> startOn(LocalDate today) throws Exception {
+        Clock clock = Clock.fixed(today.atTime(9, 0).atZone(ZONE).toInstant(), ZONE);
+        CompletableFuture<String> reminder = new CompletableFuture<>();
+        deadlineReminder = new DeadlineReminder(pipeline, logic, reminder::complete, fxThread, clock);
+        fxThread.submit(deadlineReminder::start).get();
+        return reminder;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.testfx.assertions.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.framework.junit5.ApplicationExtension;
 
 import seedu.address.model.internship.Internship;
+import seedu.address.testutil.InternshipBuilder;
 import seedu.address.testutil.TypicalInternships;
 
 @ExtendWith(ApplicationExtension.class)
@@ -58,4 +60,18 @@ public class DetailedInternshipCardTest extends UiTestBase {
         assertThat(this.detailedInternshipCard.tasks)
                 .hasText("\nTasks:\n" + testInternship.getTaskList().toString());
     }
+
+    @Test
+    void setInternship_changedFields_updatesLabels() {
+        Internship edited = new InternshipBuilder(testInternship).withRemark("Follow up next week").build();
+        detailedInternshipCard.setInternship(edited);
+        assertSame(edited, detailedInternshipCard.getInternship());
+        assertThat(this.detailedInternshipCard.remark).hasText("Remark:\t\t\t" + edited.getRemark().toString());
+
+        detailedInternshipCard.setInternship(TypicalInternships.BOB);
+        assertThat(this.detailedInternshipCard.companyNameAndRole).hasText(
+                TypicalInternships.BOB.getCompanyName().companyName + " -- " + TypicalInternships.BOB.getRole().role);
+        assertThat(this.detailedInternshipCard.remark)
+                .hasText("Remark:\t\t\t" + TypicalInternships.BOB.getRemark().toString());
+    }
 }
@@ -1,7 +1,10 @@
 package seedu.address.ui;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,16 +28,18 @@ public class DetailedInternshipListPanelTest extends UiTestBase {
     public void setUp() {
         testModel = new InternshipModelManager(getTypicalInternshipData(), new InternshipUserPrefs());
         testLogic = new InternshipLogicManager(testModel, null);
-        detailedInternshipListPanel = new DetailedInternshipListPanel(testLogic.getFilteredInternshipList());
+        detailedInternshipListPanel = new DetailedInternshipListPanel(testModel.selectedInternshipProperty());
     }
 
     @Test
-    public void selectInternship_index0_updatesLogicSelectedInternship() {
-        detailedInternshipListPanel.getInternshipListView().getSelectionModel().select(1);
-        Internship actualInternship = testLogic.getFilteredInternshipList().get(1);
-        Internship selectedInternship = testLogic.getSelectedInternship().get(1);
-        assertEquals(actualInternship, selectedInternship);
-    }
+    public void setSelectedInternship_showsOnlySelectedInternship() {
+        assertTrue(detailedInternshipListPanel.getInternshipListView().getItems().isEmpty());
 
+        Internship selectedInternship = testLogic.getFilteredInternshipList().get(1);
+        testLogic.setSelectedInternship(selectedInternship);
+        assertEquals(List.of(selectedInternship), detailedInternshipListPanel.getInternshipListView().getItems());
 
+        testLogic.setSelectedInternship(null);
+        assertTrue(detailedInternshipListPanel.getInternshipListView().getItems().isEmpty());
+    }
 }
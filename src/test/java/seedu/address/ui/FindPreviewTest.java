@@ -0,0 +1,90 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.InternshipLogicManager;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+import seedu.address.model.internship.Internship;
+import seedu.address.storage.InternshipStorageManager;
+import seedu.address.storage.JsonInternshipDataStorage;
+import seedu.address.storage.JsonInternshipUserPrefsStorage;
+
+public class FindPreviewTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final InternshipModel model = new InternshipModelManager(getTypicalInternshipData(),
+            new InternshipUserPrefs());
+    private final ExecutorService fxThread = Executors.newSingleThreadExecutor();
+    private CommandPipeline pipeline;
+    private FindPreview findPreview;
+
+    @BeforeEach
+    public void setUp() {
+        InternshipStorageManager storage = new InternshipStorageManager(
+                new JsonInternshipDataStorage(temporaryFolder.resolve("internshipdata.json")),
+                new JsonInternshipUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        InternshipLogicManager logic = new InternshipLogicManager(model, storage);
+        pipeline = new CommandPipeline(logic, fxThread);
+        findPreview = new FindPreview(pipeline, logic, fxThread);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        findPreview.shutdown();
+        pipeline.shutdown();
+        fxThread.shutdownNow();
+    }
+
+    @Test
+    public void handleCommandTextChanged_typingFindCommand_previewsLatestQuery() throws Exception {
+        typeOnFxThread("find withall /com Google");
+        typeOnFxThread("find withall /com Microsoft");
+        awaitDisplayedList(List.of(ALICE_MICROSOFT));
+    }
+
+    @Test
+    public void handleCommandTextChanged_findCommandCleared_restoresList() throws Exception {
+        typeOnFxThread("find withall /com Microsoft");
+        awaitDisplayedList(List.of(ALICE_MICROSOFT));
+
+        typeOnFxThread("");
+        awaitDisplayedList(getTypicalInternshipData().getInternshipList());
+    }
+
+    /**
+     * Changes the command text from the stand-in FX thread, as the command box does.
+     */
+    private void typeOnFxThread(String commandText) throws Exception {
+        fxThread.submit(() -> findPreview.handleCommandTextChanged(commandText)).get();
+    }
+
+    /**
+     * Waits until the pipeline displays {@code expected}, and fails if it does not do so in time.
+     */
+    private void awaitDisplayedList(List<Internship> expected) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!fxThread.submit(() -> List.copyOf(pipeline.getDisplayedInternshipList())).get().equals(expected)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, fxThread.submit(() -> List.copyOf(pipeline.getDisplayedInternshipList())).get());
+    }
+}
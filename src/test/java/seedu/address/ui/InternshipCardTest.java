@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.testfx.assertions.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -84,4 +86,20 @@ class InternshipCardTest extends UiTestBase {
         assertThat(this.internshipCard.getStatusLabel().getStyle())
                 .contains(InternshipCard.STYLE_WITH_FONT_COLOUR_LIGHTSEAGREEN);
     }
+
+    @Test
+    void setInternship_reusedCard_showsNewInternship() {
+        InternshipCard card = new InternshipCard();
+        assertNull(card.getInternship());
+
+        card.setInternship(TypicalInternships.AMY, 1);
+        Internship rejected = new InternshipBuilder(TypicalInternships.BOB).withApplicationStatus("REJECTED").build();
+        card.setInternship(rejected, 7);
+
+        assertSame(rejected, card.getInternship());
+        assertThat(card.getIdLabel()).hasText("7. ");
+        assertThat(card.getCompanyNameAndRoleLabel())
+                .hasText(rejected.getCompanyName().companyName + " -- " + rejected.getRole().role);
+        assertThat(card.getStatusLabel().getStyle()).contains(InternshipCard.STYLE_WITH_FONT_COLOUR_RED);
+    }
 }